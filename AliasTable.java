@@ -0,0 +1,65 @@
+public class AliasTable {
+    // Walker/Vose alias table - O(n) to build from fixed weights, O(1) per draw
+    public double[] probability;
+    public int[] alias;
+
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        probability = new double[n];
+        alias = new int[n];
+
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("AliasTable needs at least one positive weight");
+        }
+
+        // Scale so the average bucket holds exactly 1, then pair each light bucket with a heavy one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int light = small[--smallCount];
+            int heavy = large[--largeCount];
+            probability[light] = scaled[light];
+            alias[light] = heavy;
+
+            scaled[heavy] = (scaled[heavy] + scaled[light]) - 1.0;
+            if (scaled[heavy] < 1.0) {
+                small[smallCount++] = heavy;
+            } else {
+                large[largeCount++] = heavy;
+            }
+        }
+
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    public int sample() {
+        int bucket = (int)(Math.random() * probability.length);
+        return Math.random() < probability[bucket] ? bucket : alias[bucket];
+    }
+}
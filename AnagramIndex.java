@@ -0,0 +1,90 @@
+import java.util.*;
+import java.util.List;
+
+public class AnagramIndex {
+    // Category words grouped by sorted-letter signature, so an answer that rearranges the scramble
+    // into another word of the category can be accepted with two hash lookups
+    private Map<String, Map<String, Set<String>>> signatures = new HashMap<>();
+    private Map<String, Set<String>> categoryWords = new HashMap<>();
+
+    public static String signature(String word) {
+        char[] letters = word.toUpperCase().toCharArray();
+        Arrays.sort(letters);
+        return new String(letters);
+    }
+
+    // Bring the index in line with freshly loaded categories, touching only what changed
+    // Runs on the loading thread while the EDT may be checking answers, hence the locking
+    public synchronized void update(Map<String, List<String>> categories) {
+        for (String category : new ArrayList<>(categoryWords.keySet())) {
+            if (!categories.containsKey(category)) {
+                categoryWords.remove(category);
+                signatures.remove(category);
+            }
+        }
+
+        for (Map.Entry<String, List<String>> entry : categories.entrySet()) {
+            String category = entry.getKey();
+            Set<String> loaded = new HashSet<>();
+            for (String word : entry.getValue()) {
+                loaded.add(word.toUpperCase());
+            }
+
+            Set<String> indexed = categoryWords.get(category);
+            if (indexed == null) {
+                indexed = new HashSet<>();
+                categoryWords.put(category, indexed);
+            }
+
+            for (String word : new ArrayList<>(indexed)) {
+                if (!loaded.contains(word)) {
+                    remove(category, word);
+                }
+            }
+            for (String word : loaded) {
+                if (!indexed.contains(word)) {
+                    add(category, word);
+                }
+            }
+        }
+    }
+
+    public synchronized void add(String category, String word) {
+        categoryWords.computeIfAbsent(category, k -> new HashSet<>()).add(word);
+        signatures.computeIfAbsent(category, k -> new HashMap<>())
+                .computeIfAbsent(signature(word), k -> new HashSet<>(2)).add(word);
+    }
+
+    public synchronized void remove(String category, String word) {
+        Set<String> words = categoryWords.get(category);
+        if (words != null) {
+            words.remove(word);
+        }
+
+        Map<String, Set<String>> bySignature = signatures.get(category);
+        if (bySignature != null) {
+            String key = signature(word);
+            Set<String> bucket = bySignature.get(key);
+            if (bucket != null) {
+                bucket.remove(word);
+                if (bucket.isEmpty()) {
+                    bySignature.remove(key);
+                }
+            }
+        }
+    }
+
+    // True if the input uses exactly the answer's letters and is itself a word of the category
+    public synchronized boolean accepts(String category, String answer, String input) {
+        String key = signature(input);
+        if (!key.equals(signature(answer))) {
+            return false;
+        }
+        Map<String, Set<String>> bySignature = signatures.get(category);
+        if (bySignature == null) {
+            return false;
+        }
+        Set<String> bucket = bySignature.get(key);
+        return bucket != null && bucket.contains(input.toUpperCase());
+    }
+}
@@ -1,83 +1,84 @@
 import javax.swing.*;
-import javax.swing.border.SoftBevelBorder;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.util.*;
 import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
 
-public class AnimationManager {
-    public Timer tileAnimationTimer;
-    public Timer bubbleAnimationTimer;
+public class AnimationManager implements FrameClock.FrameListener {
+    public static final int BOUNCE_HEIGHT = 3;
+    public static final int SHUFFLE_SHIFT = 2;
+    public static final int SHUFFLE_FRAMES = 5;
+
+    public EdtScheduler edtScheduler;
+    public JPanel bouncingTiles;
+    public int bounceFrame = 0;
+    public JPanel shakingTiles;
+    public int shuffleFrame = SHUFFLE_FRAMES;
     public List<Bubble> bubbles = new ArrayList<>();
+    public JPanel bubblePanel;
+    public float interpolation = 1f; // Between the previous and current bubble positions, 1 outside active rendering
+    private Timer cellFlashTimer = new Timer("cell-flash", true); // Shared by every flash, not a thread per found word
+    public QualityTier quality = QualityController.TIERS[QualityController.TIERS.length - 1];
     public static final int WINDOW_WIDTH = 800;
     public static final int WINDOW_HEIGHT = 600;
     public static final Color TILE_COLOR = new Color(241, 196, 15);
 
     public void initializeBubbles(JPanel mainPanel) {
         // Create bubbles for background animation
-        for (int i = 0; i < 30; i++) {
+        for (int i = 0; i < quality.bubbleCount; i++) {
             bubbles.add(new Bubble(WINDOW_WIDTH, WINDOW_HEIGHT));
         }
 
-        // Start bubble animation
-        bubbleAnimationTimer = new Timer();
-        bubbleAnimationTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                for (Bubble bubble : bubbles) {
-                    bubble.move(WINDOW_WIDTH, WINDOW_HEIGHT);
-                }
+        // Bubbles are stepped by the FrameGovernor while a bubble screen is showing
+        bubblePanel = mainPanel;
+    }
 
-                if (mainPanel != null) {
-                    mainPanel.repaint();
-                }
-            }
-        }, 0, 50);
+    // Synchronized with the SceneryCompositor, which steps and draws the bubbles off the EDT
+    public synchronized void applyQuality(QualityTier tier) {
+        quality = tier;
+        while (bubbles.size() > tier.bubbleCount) {
+            bubbles.remove(bubbles.size() - 1);
+        }
+        while (bubbles.size() < tier.bubbleCount) {
+            bubbles.add(new Bubble(WINDOW_WIDTH, WINDOW_HEIGHT));
+        }
     }
 
-    public void startTileAnimation(JPanel tilesPanel) {
-        if (tileAnimationTimer != null) {
-            tileAnimationTimer.cancel();
+    public void stepBubbles() {
+        moveBubbles();
+
+        if (bubblePanel != null) {
+            bubblePanel.repaint();
         }
+    }
 
-        tileAnimationTimer = new Timer();
-        tileAnimationTimer.scheduleAtFixedRate(new TimerTask() {
-            public int direction = 1;
-            public int count = 0;
+    public void moveBubbles() {
+        for (Bubble bubble : bubbles) {
+            bubble.move(WINDOW_WIDTH, WINDOW_HEIGHT);
+        }
+    }
 
-            @Override
-            public void run() {
-                SwingUtilities.invokeLater(() -> {
-                    Component[] components = tilesPanel.getComponents();
-                    for (int i = 0; i < components.length; i++) {
-                        if (components[i] instanceof JLabel) {
-                            JLabel tile = (JLabel) components[i];
-
-                            // Create a slight bouncing effect
-                            int offset = (int)(Math.sin((count + i * 2) * 0.2) * 3);
-                            tile.setBorder(BorderFactory.createCompoundBorder(
-                                    new SoftBevelBorder(SoftBevelBorder.RAISED),
-                                    BorderFactory.createEmptyBorder(5 + offset, 5, 5 - offset, 5)
-                            ));
-                        }
-                    }
-                    count++;
-                });
-            }
-        }, 0, 50);
+    // Tiles bounce by offsetting where they are painted - bounds, borders and layout never change
+    public void startTileAnimation(JPanel tilesPanel) {
+        bouncingTiles = tilesPanel;
+        bounceFrame = 0;
+    }
+
+    public void stopTileAnimation() {
+        if (bouncingTiles != null) {
+            bouncingTiles.repaint();
+            bouncingTiles = null;
+        }
     }
 
     public void animateGridCell(JLabel cell) {
-        Timer animTimer = new Timer();
-        animTimer.scheduleAtFixedRate(new TimerTask() {
+        cellFlashTimer.scheduleAtFixedRate(new TimerTask() {
             int count = 0;
             @Override
             public void run() {
                 if (count < 5) {
-                    SwingUtilities.invokeLater(() -> {
+                    edtScheduler.cosmetic(cell, () -> {
                         float[] hsb = Color.RGBtoHSB(TILE_COLOR.getRed(), TILE_COLOR.getGreen(), TILE_COLOR.getBlue(), null);
                         float brightness = hsb[2] + (count % 2 == 0 ? 0.1f : -0.1f);
                         brightness = Math.max(0.7f, Math.min(1.0f, brightness));
@@ -85,43 +86,56 @@ public class AnimationManager {
                     });
                     count++;
                 } else {
-                    SwingUtilities.invokeLater(() -> {
+                    edtScheduler.cosmetic(cell, () -> {
                         cell.setBackground(TILE_COLOR);
                     });
-                    animTimer.cancel();
+                    cancel();
                 }
             }
         }, 0, 50);
     }
 
     public void startShuffleAnimation(JPanel letterTilesPanel) {
-        Timer shuffleTimer = new Timer();
-        shuffleTimer.scheduleAtFixedRate(new TimerTask() {
-            int count = 0;
-            @Override
-            public void run() {
-                if (count < 5) {
-                    SwingUtilities.invokeLater(() -> {
-                        Component[] components = letterTilesPanel.getComponents();
-                        for (Component component : components) {
-                            if (component instanceof JLabel) {
-                                JLabel tile = (JLabel) component;
-                                int offset = (count % 2 == 0) ? 2 : -2;
-                                tile.setLocation(tile.getX() + offset, tile.getY());
-                            }
-                        }
-                    });
-                    count++;
-                } else {
-                    shuffleTimer.cancel();
-                }
+        shakingTiles = letterTilesPanel;
+        shuffleFrame = 0;
+    }
+
+    @Override
+    public void onFrame(long now) {
+        if (bouncingTiles != null && bouncingTiles.isShowing()) {
+            bounceFrame++;
+            bouncingTiles.repaint();
+        }
+
+        if (shakingTiles != null) {
+            shuffleFrame++;
+            shakingTiles.repaint();
+            if (shuffleFrame >= SHUFFLE_FRAMES) {
+                shakingTiles = null;
             }
-        }, 0, 50);
+        }
+    }
+
+    // Paint-time offsets for a tile inside an animated panel, read by the tile's paintComponent
+    public int tileOffsetX(Component tile) {
+        if (shakingTiles == null || tile.getParent() != shakingTiles) {
+            return 0;
+        }
+        return shuffleFrame % 2 == 0 ? SHUFFLE_SHIFT : 0;
+    }
+
+    public int tileOffsetY(Component tile) {
+        Container parent = tile.getParent();
+        if (bouncingTiles == null || parent != bouncingTiles) {
+            return 0;
+        }
+        int i = parent.getComponentZOrder(tile);
+        return (int)(Math.sin((bounceFrame + i * 2) * 0.2) * BOUNCE_HEIGHT);
     }
 
     public void drawBubbles(Graphics2D g2d) {
         for (Bubble bubble : bubbles) {
-            bubble.draw(g2d);
+            bubble.draw(g2d, interpolation);
         }
     }
 }
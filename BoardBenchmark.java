@@ -0,0 +1,202 @@
+import java.util.*;
+import java.util.List;
+
+public class BoardBenchmark {
+    // Times board generation, hint setup and answer matching for each base length with 0-2 blanks, crossword
+    // layouts of those boards, then word grid solving on one core and grid generation across all of them.
+    // Run with: java BoardBenchmark [rounds]
+    // Uses words.txt or the system dictionary; without one it makes up an English-like lexicon.
+    public static final String LETTER_FREQUENCIES = "EEEEEEEEEEEETTTTTTTTTAAAAAAAAOOOOOOOOIIIIIIINNNNNNNSSSSSSHHHHHHRRRRRRDDDDLLLLCCCUUUMMMWWFFGGYYPPBVKJXQZ";
+    public static final int SYNTHETIC_WORDS = 200000;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        List<String> lexicon = new FileManager().loadLexicon();
+        String source = "dictionary";
+        if (lexicon.size() < 10000) {
+            lexicon = syntheticLexicon(SYNTHETIC_WORDS);
+            source = "synthetic";
+        }
+
+        long start = System.nanoTime();
+        BoardGenerator generator = new BoardGenerator(lexicon);
+        System.out.printf("lexicon: %d %s words, indexed in %.1f ms%n",
+                generator.size(), source, (System.nanoTime() - start) / 1e6);
+
+        for (int blanks = 0; blanks <= BoardGenerator.MAX_BLANKS; blanks++) {
+            for (int base = BoardShape.MIN_BASE; base <= BoardShape.MAX_BASE; base++) {
+                run(generator, BoardShape.forBase(base), blanks, rounds);
+            }
+        }
+        for (int base = BoardShape.MIN_BASE; base <= BoardShape.MAX_BASE; base++) {
+            runCrossword(generator, BoardShape.forBase(base), rounds);
+        }
+
+        List<String> gridLexicon = new FileManager().loadLexicon(GridGame.MAX_WORD);
+        if (gridLexicon.size() < 10000) {
+            gridLexicon = lexicon;
+        }
+        start = System.nanoTime();
+        GridTrie trie = new GridTrie(gridLexicon, GridGame.MAX_WORD);
+        System.out.printf("grid trie: %d nodes, built in %.1f ms%n", trie.nodeCount, (System.nanoTime() - start) / 1e6);
+        runGrid(trie, 4, GridGame.MIN_WORDS_4, rounds * 10);
+        runGrid(trie, 5, GridGame.MIN_WORDS_5, rounds * 10);
+    }
+
+    private static void runGrid(GridTrie trie, int size, int minWords, int boards) {
+        GridSolver solver = new GridSolver(trie);
+        char[] board = new char[size * size];
+        for (int i = 0; i < boards / 4; i++) {
+            GridBoardGenerator.roll(board, size);
+            solver.solve(board, size, null);
+        }
+
+        long words = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < boards; i++) {
+            GridBoardGenerator.roll(board, size);
+            words += solver.solve(board, size, null);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("grid %dx%d: %.0f boards/s on one core, %.1f words per board%n",
+                size, size, boards / seconds, (double) words / boards);
+
+        GridBoardGenerator generator = new GridBoardGenerator(trie);
+        long[] generateNanos = new long[50];
+        int candidates = 0;
+        for (int i = 0; i < generateNanos.length; i++) {
+            start = System.nanoTime();
+            generator.generate(size, minWords);
+            generateNanos[i] = System.nanoTime() - start;
+            candidates += generator.candidatesSolved;
+        }
+        report(String.format("  generate (%d+ words, %d threads, %.0f candidates)", minWords, generator.threads,
+                (double) candidates / generateNanos.length), generateNanos);
+    }
+
+    private static void runCrossword(BoardGenerator generator, BoardShape shape, int rounds) {
+        List<WordSet> boards = new ArrayList<>();
+        while (boards.size() < rounds) {
+            WordSet wordSet = generator.generate(shape);
+            if (wordSet == null) {
+                System.out.printf("crossword base %d: no boards%n", shape.baseLength);
+                return;
+            }
+            boards.add(wordSet);
+        }
+        for (WordSet wordSet : boards.subList(0, rounds / 4)) {
+            CrosswordLayout.place(wordSet.words, CrosswordLayout.BUDGET_NANOS);
+        }
+
+        long[] layoutNanos = new long[rounds];
+        int placed = 0;
+        long cells = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            long layoutStart = System.nanoTime();
+            CrosswordLayout layout = CrosswordLayout.place(boards.get(i).words, CrosswordLayout.BUDGET_NANOS);
+            layoutNanos[i] = System.nanoTime() - layoutStart;
+            if (layout != null) {
+                placed++;
+                cells += layout.rows * layout.cols;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("crossword base %d: %.0f layouts/s, %d/%d boards interlock, %.0f squares on average%n",
+                shape.baseLength, rounds / seconds, placed, rounds, placed == 0 ? 0.0 : (double) cells / placed);
+        report("  layout  ", layoutNanos);
+    }
+
+    private static void run(BoardGenerator generator, BoardShape shape, int blanks, int rounds) {
+        // Warm up the JIT before measuring
+        for (int i = 0; i < rounds / 4; i++) {
+            generator.generate(shape, blanks);
+        }
+
+        long[] generateNanos = new long[rounds];
+        long[] hintNanos = new long[rounds];
+        long[] matchNanos = new long[rounds];
+        long subAnagrams = 0;
+        int generated = 0;
+        int matched = 0;
+
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            WordSet wordSet = generator.generate(shape, blanks);
+            generateNanos[i] = System.nanoTime() - start;
+            if (wordSet == null) {
+                continue;
+            }
+            generated++;
+
+            start = System.nanoTime();
+            Map<Integer, List<String>> spellable = generator.wordsFrom(wordSet.letters);
+            new HintEngine(wordSet.words, spellable);
+            Map<String, int[]> answerSlots = GameLogic.answerSlots(wordSet.words, wordSet.letters);
+            hintNanos[i] = System.nanoTime() - start;
+
+            // Check every word a player could spell from the board against its answers, as typing does
+            start = System.nanoTime();
+            for (List<String> sameLength : spellable.values()) {
+                subAnagrams += sameLength.size();
+                for (String input : sameLength) {
+                    if (answerSlots.containsKey(input)) {
+                        matched++;
+                    }
+                }
+            }
+            matchNanos[i] = System.nanoTime() - start;
+        }
+
+        System.out.printf("base %d (%s, %d words), %d blanks: %d/%d boards, %.0f spellable words per board%n",
+                shape.baseLength, shape, shape.slotCount(), blanks, generated, rounds,
+                generated == 0 ? 0.0 : (double) subAnagrams / generated);
+        report("  generate", generateNanos);
+        report("  prepare ", hintNanos);
+        report("  matching", matchNanos);
+        if (matched < generated * shape.slotCount()) {
+            System.out.println("  some board words were not matched");
+        }
+    }
+
+    static void report(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long n : sorted) {
+            total += n;
+        }
+        int count = sorted.length;
+        System.out.printf("%s: mean %.3f ms, p50 %.3f ms, p99 %.3f ms, worst %.3f ms%n", label,
+                total / 1e6 / count, sorted[count / 2] / 1e6,
+                sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)] / 1e6, sorted[count - 1] / 1e6);
+    }
+
+    // Random words with English letter frequencies, weighted toward the common 4-7 letter lengths
+    static List<String> syntheticLexicon(int count) {
+        int[] lengthWeights = {0, 0, 0, 4, 12, 18, 20, 18, 14};
+        int totalWeight = 0;
+        for (int weight : lengthWeights) {
+            totalWeight += weight;
+        }
+
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(count);
+        char[] letters = new char[BoardShape.MAX_BASE];
+        for (int i = 0; i < count; i++) {
+            int pick = random.nextInt(totalWeight);
+            int length = 0;
+            while (pick >= lengthWeights[length]) {
+                pick -= lengthWeights[length];
+                length++;
+            }
+            for (int j = 0; j < length; j++) {
+                letters[j] = LETTER_FREQUENCIES.charAt(random.nextInt(LETTER_FREQUENCIES.length()));
+            }
+            words.add(new String(letters, 0, length));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,218 @@
+import java.util.*;
+import java.util.List;
+
+public class BoardGenerator {
+    // Builds boards from a lexicon. Words are indexed by their sorted letters, so every word that
+    // can be spelled from a base is found by looking up each distinct sub-multiset of the base's
+    // letters - at most 2^8 = 256 lookups for an 8-letter base, however large the lexicon.
+    // A blank tile can stand for any letter, so boards with blanks walk a lexicon trie instead.
+    public static final int MAX_ATTEMPTS = 200;
+    public static final char BLANK = '?';
+    public static final int MAX_BLANKS = 2;
+
+    private Map<String, String[]> bySignature = new HashMap<>();
+    private List<List<String>> baseWords = new ArrayList<>(); // Indexed by length
+    private int size = 0;
+
+    // Scratch space for the sub-multiset walk, generation runs on one thread at a time
+    private char[] sortedBase = new char[BoardShape.MAX_BASE];
+    private char[] subset = new char[BoardShape.MAX_BASE];
+
+    // Built from the same words the first time a board has blanks
+    private GridTrie trie;
+    private int[] letterCounts = new int[26];
+    private int lettersInHand; // Bit per letter with a tile left
+
+    public BoardGenerator(Collection<String> lexicon) {
+        for (int length = 0; length <= BoardShape.MAX_BASE; length++) {
+            baseWords.add(new ArrayList<>());
+        }
+
+        Map<String, List<String>> groups = new HashMap<>();
+        for (String word : lexicon) {
+            String upper = word.toUpperCase();
+            if (upper.length() < BoardShape.MIN_WORD || upper.length() > BoardShape.MAX_BASE) {
+                continue;
+            }
+            List<String> group = groups.computeIfAbsent(AnagramIndex.signature(upper), k -> new ArrayList<>(1));
+            if (!group.contains(upper)) {
+                group.add(upper);
+                size++;
+                if (upper.length() >= BoardShape.MIN_BASE) {
+                    baseWords.get(upper.length()).add(upper);
+                }
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : groups.entrySet()) {
+            bySignature.put(entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Every lexicon word that can be spelled from the letters, by length. Each BLANK spells any letter.
+    public synchronized Map<Integer, List<String>> wordsFrom(String letters) {
+        Map<Integer, List<String>> words = new HashMap<>();
+        String upper = letters.toUpperCase();
+        if (upper.length() > BoardShape.MAX_BASE) {
+            return words;
+        }
+        if (upper.indexOf(BLANK) >= 0) {
+            collectWithBlanks(upper, words);
+            return words;
+        }
+        upper.getChars(0, upper.length(), sortedBase, 0);
+        Arrays.sort(sortedBase, 0, upper.length());
+        collect(upper.length(), 0, 0, words);
+        return words;
+    }
+
+    // Walk the distinct sub-multisets of sortedBase: at each run of equal letters, take 0..run of them
+    private void collect(int baseLength, int index, int depth, Map<Integer, List<String>> words) {
+        if (index == baseLength) {
+            if (depth >= BoardShape.MIN_WORD) {
+                String[] found = bySignature.get(new String(subset, 0, depth));
+                if (found != null) {
+                    List<String> sameLength = words.computeIfAbsent(depth, k -> new ArrayList<>());
+                    Collections.addAll(sameLength, found);
+                }
+            }
+            return;
+        }
+
+        int runEnd = index;
+        while (runEnd < baseLength && sortedBase[runEnd] == sortedBase[index]) {
+            runEnd++;
+        }
+        for (int take = 0; take <= runEnd - index; take++) {
+            for (int i = 0; i < take; i++) {
+                subset[depth + i] = sortedBase[index];
+            }
+            collect(baseLength, runEnd, depth + take, words);
+        }
+    }
+
+    private void collectWithBlanks(String letters, Map<Integer, List<String>> words) {
+        if (trie == null) {
+            List<String> lexicon = new ArrayList<>(size);
+            for (String[] group : bySignature.values()) {
+                Collections.addAll(lexicon, group);
+            }
+            trie = new GridTrie(lexicon, BoardShape.MAX_BASE, false);
+        }
+
+        Arrays.fill(letterCounts, 0);
+        lettersInHand = 0;
+        int blanks = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            char c = letters.charAt(i);
+            if (c == BLANK) {
+                blanks++;
+            } else if (c >= 'A' && c <= 'Z') {
+                letterCounts[c - 'A']++;
+                lettersInHand |= 1 << (c - 'A');
+            }
+        }
+        walk(GridTrie.ROOT, 0, blanks, words);
+    }
+
+    // Follow the trie only along letters still in hand, or along every letter while a blank is left.
+    // A real tile is always used before a blank, so each word is reached by exactly one path.
+    private void walk(int node, int depth, int blanks, Map<Integer, List<String>> words) {
+        if (trie.words[node] != null) {
+            words.computeIfAbsent(depth, k -> new ArrayList<>()).add(trie.words[node]);
+        }
+
+        int mask = trie.childMask[node];
+        int reachable = blanks > 0 ? mask : mask & lettersInHand;
+        for (int bits = reachable; bits != 0; bits &= bits - 1) {
+            int letter = Integer.numberOfTrailingZeros(bits);
+            int child = trie.firstChild[node] + Integer.bitCount(mask & ((1 << letter) - 1));
+            if (letterCounts[letter] > 0) {
+                if (--letterCounts[letter] == 0) {
+                    lettersInHand &= ~(1 << letter);
+                }
+                walk(child, depth + 1, blanks, words);
+                letterCounts[letter]++;
+                lettersInHand |= 1 << letter;
+            } else {
+                walk(child, depth + 1, blanks - 1, words);
+            }
+        }
+    }
+
+    // The letters with that many of them, at random positions, turned into blanks
+    public static String withBlanks(String letters, int blanks) {
+        char[] chars = letters.toCharArray();
+        for (int i = 0; i < Math.min(blanks, chars.length); i++) {
+            int position;
+            do {
+                position = (int)(Math.random() * chars.length);
+            } while (chars[position] == BLANK);
+            chars[position] = BLANK;
+        }
+        return new String(chars);
+    }
+
+    public WordSet generate(BoardShape shape) {
+        return generate(shape, 0);
+    }
+
+    // A random board of the given shape, or null if the lexicon has no base word that fills it.
+    // With blanks, that many of the base's letters become blank tiles and the other words are drawn
+    // from everything the blanks let the board spell.
+    public WordSet generate(BoardShape shape, int blanks) {
+        List<String> bases = shape.baseLength < baseWords.size() ? baseWords.get(shape.baseLength) : null;
+        if (bases == null || bases.isEmpty()) {
+            return null;
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String base = bases.get((int)(Math.random() * bases.size()));
+            String letters = withBlanks(base, blanks);
+            Map<Integer, List<String>> spellable = wordsFrom(letters);
+
+            boolean fits = true;
+            for (int length = BoardShape.MIN_WORD; length <= shape.baseLength && fits; length++) {
+                List<String> sameLength = spellable.get(length);
+                fits = shape.slots(length) <= (sameLength == null ? 0 : sameLength.size());
+            }
+            if (!fits) {
+                continue;
+            }
+
+            // Shortest words first, the order the grid lays them out in
+            String[] words = new String[shape.slotCount()];
+            int slot = 0;
+            for (int length = BoardShape.MIN_WORD; length <= shape.baseLength; length++) {
+                int needed = shape.slots(length);
+                if (needed == 0) {
+                    continue;
+                }
+                List<String> sameLength = spellable.get(length);
+                if (length == shape.baseLength) {
+                    // The base itself is the longest word, so all its letters are used
+                    sameLength.remove(base);
+                    sameLength.add(0, base);
+                    needed--;
+                    words[slot++] = base;
+                    if (needed == 0) {
+                        continue;
+                    }
+                    sameLength = sameLength.subList(1, sameLength.size());
+                }
+                // Partial Fisher-Yates: the first `needed` entries end up a random sample
+                for (int i = 0; i < needed; i++) {
+                    int j = i + (int)(Math.random() * (sameLength.size() - i));
+                    Collections.swap(sameLength, i, j);
+                    words[slot++] = sameLength.get(i);
+                }
+            }
+
+            return new WordSet(letters, words);
+        }
+        return null;
+    }
+}
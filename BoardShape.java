@@ -0,0 +1,150 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BoardShape {
+    // How a word scramble board is laid out: the length of the base word and how many words of
+    // each length the player has to find. Set with -Dwordgame.board, either a base length ("7")
+    // or slot counts per length ("3x3,3x4,2x5,1x6,1x7").
+    public static final int MIN_BASE = 5;
+    public static final int MAX_BASE = 8;
+    public static final int MIN_WORD = 3;
+
+    public int baseLength;
+    public int[] slotsPerLength; // Indexed by word length
+
+    public BoardShape(int baseLength, int[] slotsPerLength) {
+        this.baseLength = baseLength;
+        this.slotsPerLength = slotsPerLength;
+    }
+
+    // The original board: 3 three-letter, 2 four-letter and 1 five-letter word
+    public static BoardShape classic() {
+        return forBase(MIN_BASE);
+    }
+
+    public static BoardShape forBase(int base) {
+        base = Math.max(MIN_BASE, Math.min(MAX_BASE, base));
+        int[] slots = new int[base + 1];
+        switch (base) {
+            case 5:
+                slots[3] = 3; slots[4] = 2; slots[5] = 1;
+                break;
+            case 6:
+                slots[3] = 3; slots[4] = 2; slots[5] = 2; slots[6] = 1;
+                break;
+            case 7:
+                slots[3] = 3; slots[4] = 3; slots[5] = 2; slots[6] = 1; slots[7] = 1;
+                break;
+            default:
+                slots[3] = 3; slots[4] = 3; slots[5] = 2; slots[6] = 2; slots[7] = 1; slots[8] = 1;
+                break;
+        }
+        return new BoardShape(base, slots);
+    }
+
+    // Shape of an existing word list, e.g. one read from word_sets.txt
+    public static BoardShape of(String[] words) {
+        int base = 0;
+        for (String word : words) {
+            base = Math.max(base, word.length());
+        }
+        int[] slots = new int[base + 1];
+        for (String word : words) {
+            slots[word.length()]++;
+        }
+        return new BoardShape(base, slots);
+    }
+
+    public static BoardShape fromProperty() {
+        String spec = System.getProperty("wordgame.board");
+        if (spec == null || spec.trim().isEmpty()) {
+            return classic();
+        }
+
+        try {
+            spec = spec.trim();
+            if (!spec.contains("x")) {
+                return forBase(Integer.parseInt(spec));
+            }
+
+            int[] slots = new int[MAX_BASE + 1];
+            int base = 0;
+            for (String part : spec.split(",")) {
+                String[] countAndLength = part.trim().split("x");
+                int count = Integer.parseInt(countAndLength[0].trim());
+                int length = Integer.parseInt(countAndLength[1].trim());
+                if (length < MIN_WORD || length > MAX_BASE || count < 0) {
+                    throw new NumberFormatException("Bad board slot: " + part);
+                }
+                slots[length] += count;
+                if (count > 0) {
+                    base = Math.max(base, length);
+                }
+            }
+            if (base < MIN_BASE || slots[base] != 1) {
+                throw new NumberFormatException("Board needs exactly one word of the longest length: " + spec);
+            }
+            return new BoardShape(base, Arrays.copyOf(slots, base + 1));
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return classic();
+        }
+    }
+
+    public int slotCount() {
+        int count = 0;
+        for (int slots : slotsPerLength) {
+            count += slots;
+        }
+        return count;
+    }
+
+    public int slots(int length) {
+        return length < slotsPerLength.length ? slotsPerLength[length] : 0;
+    }
+
+    // Spelled out for the help text, e.g. "3 three-letter words, 2 four-letter words and 1 five-letter word"
+    public String describe() {
+        String[] lengthNames = {"", "", "", "three", "four", "five", "six", "seven", "eight"};
+        List<String> parts = new ArrayList<>();
+        for (int length = MIN_WORD; length < slotsPerLength.length; length++) {
+            int count = slotsPerLength[length];
+            if (count > 0) {
+                parts.add(count + " " + lengthNames[length] + "-letter word" + (count > 1 ? "s" : ""));
+            }
+        }
+        if (parts.size() < 2) {
+            return String.join("", parts);
+        }
+        return String.join(", ", parts.subList(0, parts.size() - 1)) + " and " + parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof BoardShape)) {
+            return false;
+        }
+        BoardShape shape = (BoardShape) other;
+        return baseLength == shape.baseLength && Arrays.equals(slotsPerLength, shape.slotsPerLength);
+    }
+
+    @Override
+    public int hashCode() {
+        return baseLength * 31 + Arrays.hashCode(slotsPerLength);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder();
+        for (int length = MIN_WORD; length < slotsPerLength.length; length++) {
+            if (slotsPerLength[length] > 0) {
+                if (spec.length() > 0) {
+                    spec.append(',');
+                }
+                spec.append(slotsPerLength[length]).append('x').append(length);
+            }
+        }
+        return spec.toString();
+    }
+}
@@ -2,6 +2,7 @@ import java.awt.*;
 
 public class Bubble {
     public int x, y;
+    public int prevX, prevY; // Position before the last move, for interpolated drawing
     public int size;
     public float speed;
     public Color color;
@@ -9,6 +10,8 @@ public class Bubble {
     public Bubble(int windowWidth, int windowHeight) {
         x = (int)(Math.random() * windowWidth);
         y = windowHeight + (int)(Math.random() * 100);
+        prevX = x;
+        prevY = y;
         size = 10 + (int)(Math.random() * 30);
         speed = 0.5f + (float)(Math.random() * 1.5f);
 
@@ -18,15 +21,19 @@ public class Bubble {
     }
 
     public void move(int windowWidth, int windowHeight) {
+        prevX = x;
+        prevY = y;
         y -= speed;
         if (y < -size) {
             y = windowHeight + size;
             x = (int)(Math.random() * windowWidth);
+            prevX = x; // Don't smear the jump back to the bottom
+            prevY = y;
         }
     }
 
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, float alpha) {
         g2d.setColor(color);
-        g2d.fillOval(x, y, size, size);
+        g2d.fillOval(Math.round(prevX + (x - prevX) * alpha), Math.round(prevY + (y - prevY) * alpha), size, size);
     }
 }
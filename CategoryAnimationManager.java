@@ -1,51 +1,70 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.*;
+import java.awt.image.BufferedImage;
 import java.util.*;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class CategoryAnimationManager {
-    public Timer animationTimer;
+    public boolean initialized = false;
     public List<Bird> birds = new ArrayList<>();
     public List<Star> stars = new ArrayList<>();
     public List<Confetti> confettiList = new ArrayList<>();
     public boolean showConfetti = false;
     public List<Cloud> clouds = new ArrayList<>();
 
+    public QualityTier quality = QualityController.TIERS[QualityController.TIERS.length - 1];
+    public BufferedImage sceneryBuffer; // Reduced-resolution target for low quality tiers
+    public float interpolation = 1f; // Between the previous and current positions, 1 outside active rendering
+
+    // Screens sharing this scenery - repainted on every tick
+    public List<JPanel> panels = new CopyOnWriteArrayList<>();
+
     public static final int WINDOW_WIDTH = 800;
     public static final int WINDOW_HEIGHT = 600;
 
     public void initializeAnimations(JPanel panel) {
-        // Create twinkling stars
-        for (int i = 0; i < 25; i++) {
-            stars.add(new Star(WINDOW_WIDTH, WINDOW_HEIGHT));
+        if (panel != null) {
+            panels.add(panel);
+        }
+
+        // The game and category screens share one scenery, only create it once
+        if (initialized) {
+            return;
         }
+        initialized = true;
+
+        // Create twinkling stars, flying birds and floating clouds
+        applyQuality(quality);
+
+        // The scenery is stepped by the FrameGovernor while one of its screens is showing
+    }
 
-        // Create flying birds for background animation
-        for (int i = 0; i < 8; i++) {
-            birds.add(new Bird(WINDOW_WIDTH, WINDOW_HEIGHT));
+    public void step() {
+        updateAnimations();
+        for (JPanel target : panels) {
+            target.repaint();
         }
+    }
+
+    // Grow or trim the scenery to the tier's entity counts
+    // Synchronized with the SceneryCompositor, which steps and draws the scenery off the EDT
+    public synchronized void applyQuality(QualityTier tier) {
+        quality = tier;
+
+        while (stars.size() > tier.starCount) stars.remove(stars.size() - 1);
+        while (stars.size() < tier.starCount) stars.add(new Star(WINDOW_WIDTH, WINDOW_HEIGHT));
+
+        while (birds.size() > tier.birdCount) birds.remove(birds.size() - 1);
+        while (birds.size() < tier.birdCount) birds.add(new Bird(WINDOW_WIDTH, WINDOW_HEIGHT));
 
-        // Create floating clouds
-        for (int i = 0; i < 4; i++) {
+        while (clouds.size() > tier.cloudCount) clouds.remove(clouds.size() - 1);
+        while (clouds.size() < tier.cloudCount) {
             Cloud cloud = new Cloud(WINDOW_WIDTH, WINDOW_HEIGHT);
             cloud.x = (float)(Math.random() * WINDOW_WIDTH); // Spread initial positions
             clouds.add(cloud);
         }
-
-        // Start animation timer
-        animationTimer = new Timer();
-        animationTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                updateAnimations();
-                if (panel != null) {
-                    panel.repaint();
-                }
-            }
-        }, 0, 50);
     }
 
     public void updateAnimations() {
@@ -82,10 +101,38 @@ public class CategoryAnimationManager {
         }
     }
 
-    public void drawAnimations(Graphics2D g2d) {
+    public void drawAnimations(Graphics2D g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, quality.antialias
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+
+        if (quality.spriteScale < 1f) {
+            // Render at reduced resolution and scale the result up
+            int width = (int)(WINDOW_WIDTH * quality.spriteScale);
+            int height = (int)(WINDOW_HEIGHT * quality.spriteScale);
+            if (sceneryBuffer == null || sceneryBuffer.getWidth() != width) {
+                sceneryBuffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            }
+
+            Graphics2D buffer = sceneryBuffer.createGraphics();
+            buffer.setComposite(AlphaComposite.Clear);
+            buffer.fillRect(0, 0, width, height);
+            buffer.setComposite(AlphaComposite.SrcOver);
+            buffer.scale(quality.spriteScale, quality.spriteScale);
+            drawLayers(buffer);
+            buffer.dispose();
+
+            g2d.drawImage(sceneryBuffer, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT, null);
+        } else {
+            drawLayers(g2d);
+        }
+        g2d.dispose();
+    }
+
+    private void drawLayers(Graphics2D g2d) {
         // Draw clouds first (background layer)
         for (Cloud cloud : clouds) {
-            cloud.draw(g2d);
+            cloud.draw(g2d, interpolation);
         }
 
         // Draw stars
@@ -95,18 +142,18 @@ public class CategoryAnimationManager {
 
         // Draw birds
         for (Bird bird : birds) {
-            bird.draw(g2d);
+            bird.draw(g2d, interpolation);
         }
 
         // Draw confetti
         if (showConfetti) {
             for (Confetti confetti : confettiList) {
-                confetti.draw(g2d);
+                confetti.draw(g2d, interpolation);
             }
         }
     }
 
-    public void triggerConfetti() {
+    public synchronized void triggerConfetti() {
         showConfetti = true;
         confettiList.clear();
 
@@ -115,16 +162,11 @@ public class CategoryAnimationManager {
             confettiList.add(new Confetti(WINDOW_WIDTH / 2, 100));
         }
     }
-
-    public void stopAnimations() {
-        if (animationTimer != null) {
-            animationTimer.cancel();
-        }
-    }
 }
 
 class Bird {
     public float x, y;
+    public float prevX, prevY;
     public float speedX, speedY;
     public float size;
     public Color color;
@@ -141,6 +183,8 @@ class Bird {
         flapSpeed = 0.2f + (float)(Math.random() * 0.1);
         direction = Math.random() > 0.5 ? 1 : -1;
         speedX *= direction;
+        prevX = x;
+        prevY = y;
 
         // Cute bird colors
         Color[] birdColors = {
@@ -155,6 +199,8 @@ class Bird {
     }
 
     public void update(int windowWidth, int windowHeight) {
+        prevX = x;
+        prevY = y;
         x += speedX;
         y += speedY;
         wingFlap += flapSpeed;
@@ -167,17 +213,19 @@ class Bird {
             x = windowWidth + 50;
             y = 50 + (float)(Math.random() * (windowHeight - 200));
         }
+        if (Math.abs(x - prevX) > 50) {
+            prevX = x; // Wrapped to the other side - don't interpolate across the screen
+            prevY = y;
+        }
 
         // Keep birds in reasonable vertical bounds
         if (y < 30) speedY = Math.abs(speedY);
         if (y > windowHeight - 150) speedY = -Math.abs(speedY);
     }
 
-    public void draw(Graphics2D g2d) {
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
+    public void draw(Graphics2D g2d, float alpha) {
         AffineTransform oldTransform = g2d.getTransform();
-        g2d.translate((int)x, (int)y);
+        g2d.translate((int)(prevX + (x - prevX) * alpha), (int)(prevY + (y - prevY) * alpha));
         if (direction < 0) {
             g2d.scale(-1, 1); // Flip for left-flying birds
         }
@@ -261,6 +309,7 @@ class Star {
 
 class Confetti {
     public float x, y;
+    public float prevX, prevY;
     public float speedX, speedY;
     public float gravity = 0.3f;
     public Color color;
@@ -271,6 +320,8 @@ class Confetti {
     public Confetti(int startX, int startY) {
         x = startX + (float)(Math.random() * 100 - 50);
         y = startY;
+        prevX = x;
+        prevY = y;
         speedX = (float)(Math.random() * 10 - 5);
         speedY = (float)(Math.random() * -10 - 5);
         size = 5 + (float)(Math.random() * 5);
@@ -289,15 +340,17 @@ class Confetti {
     }
 
     public void update() {
+        prevX = x;
+        prevY = y;
         x += speedX;
         y += speedY;
         speedY += gravity;
         rotation += rotationSpeed;
     }
 
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, float alpha) {
         AffineTransform oldTransform = g2d.getTransform();
-        g2d.translate((int)x, (int)y);
+        g2d.translate((int)(prevX + (x - prevX) * alpha), (int)(prevY + (y - prevY) * alpha));
         g2d.rotate(rotation);
 
         g2d.setColor(color);
@@ -310,6 +363,7 @@ class Confetti {
 
 class Cloud {
     public float x, y;
+    public float prevX;
     public float speedX;
     public float size;
     public Color color;
@@ -317,6 +371,7 @@ class Cloud {
 
     public Cloud(int windowWidth, int windowHeight) {
         x = -150; // Start off-screen to the left
+        prevX = x;
         y = 50 + (float)(Math.random() * (windowHeight - 200)); // Random height in upper area
         speedX = 0.3f + (float)(Math.random() * 0.7f); // Slow floating speed
         size = 0.8f + (float)(Math.random() * 0.4f); // Size variation
@@ -327,20 +382,22 @@ class Cloud {
     }
 
     public void update(int windowWidth, int windowHeight) {
+        prevX = x;
         x += speedX;
 
         // Reset cloud when it goes off screen to the right
         if (x > windowWidth + 150) {
             x = -150;
+            prevX = x;
             y = 50 + (float)(Math.random() * (windowHeight - 200));
             speedX = 0.3f + (float)(Math.random() * 0.7f);
         }
     }
 
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, float alpha) {
         g2d.setColor(color);
 
-        int baseX = (int)x;
+        int baseX = (int)(prevX + (x - prevX) * alpha);
         int baseY = (int)y;
         int baseSize = (int)(60 * size);
 
@@ -11,6 +11,7 @@ public class CategoryGame {
     // Game constants
     public static final int TIME_LIMIT = 20; // 20 seconds per word
     public static final int MAX_CHANCES = 3;
+    public static final int LIGHTNING_TIME_LIMIT = 60; // One clock for the whole lightning run
 
     // Game state
     public int currentChances = 0;
@@ -24,6 +25,17 @@ public class CategoryGame {
     public String scrambledWord = "";
     public String userInput = "";
 
+    // Puzzle of the Day: the day's words in the calendar's order and scrambles, instead of the sampler
+    public DailyPuzzle daily;
+    public int dailyIndex = 0;
+
+    // Lightning mode: as many words as possible against one running clock, fed by a WordPipeline
+    public boolean lightning = false;
+    public WordPipeline wordPipeline;
+
+    // Set while the wrong-answer banner is up, the next word isn't dealt until it closes
+    public boolean inputLocked = false;
+
     // Score system
     public int totalScore = 0;
     public int currentCategoryScore = 0;
@@ -38,15 +50,40 @@ public class CategoryGame {
     // NEW: Track used words to prevent duplicates
     public Set<String> usedWords = new HashSet<>();
 
+    // Words still to be dealt this game, weighted - a dealt word drops to 0
+    public List<String> wordList;
+    public List<String> wordCategories;
+    public FenwickSampler wordSampler;
+
+    // Missed words come back through spaced repetition, one review after every few fresh words
+    public static final int FRESH_WORDS_PER_REVIEW = 2;
+    public ReviewScheduler reviewScheduler;
+    public Map<String, String> wordCategory = new HashMap<>();
+    public int freshWordsSinceReview = 0;
+
+    // Near misses: a full-length answer one edit from a word in the category
+    public static final int PARTIAL_CREDIT = 25;
+    public NearMissMatcher nearMissMatcher;
+
+    // Other words of the category spelled with the same letters, e.g. MELON for LEMON
+    public AnagramIndex anagramIndex = new AnagramIndex();
+
     public CategoryGame(WordScrambleGame mainGame) {
+        // Categories are loaded separately by loadCategoriesFromFile(), off the EDT
         this.mainGame = mainGame;
-        loadCategoriesFromFile();
     }
 
     public void loadCategoriesFromFile() {
         categories = new HashMap<>();
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("categories.txt"));
+            BufferedReader reader = null;
+            for (String filename : FileManager.CATEGORY_FILES) {
+                reader = mainGame.fileManager.openContent(filename);
+                if (reader != null) break;
+            }
+            if (reader == null) {
+                throw new FileNotFoundException("categories.txt");
+            }
             String line;
             String currentCat = null;
 
@@ -73,6 +110,13 @@ public class CategoryGame {
         }
 
         categoryOrder = new ArrayList<>(categories.keySet());
+
+        nearMissMatcher = new NearMissMatcher(categories);
+        anagramIndex.update(categories);
+
+        // The player's review history loads with the categories, off the EDT
+        reviewScheduler = new ReviewScheduler(new File(ReviewScheduler.profileFile()));
+        reviewScheduler.load();
     }
 
     // UPDATED: Default categories as fallback (max 7 letters) - only used if categories.txt file is missing
@@ -105,6 +149,8 @@ public class CategoryGame {
     }
 
     public void startGame() {
+        stopLightning();
+        daily = null;
         currentChances = 0;
         currentWordIndex = 0;
         currentCategoryIndex = 0;
@@ -114,61 +160,132 @@ public class CategoryGame {
         totalWordsAttempted = 0;
         gameActive = true;
         usedWords.clear(); // Clear used words for new game
+        buildWordSampler();
         nextWord();
     }
 
-    public void nextWord() {
-        // FIXED: Randomly select a category each time instead of cycling
-        if (categories.isEmpty()) {
-            gameWon();
-            return;
-        }
+    public void startDaily(DailyPuzzle puzzle) {
+        stopLightning();
+        daily = puzzle;
+        dailyIndex = 0;
+        currentChances = 0;
+        currentCategoryIndex = 0;
+        totalScore = 0;
+        currentCategoryScore = 0;
+        wordsGuessedCorrectly = 0;
+        totalWordsAttempted = 0;
+        gameActive = true;
+        usedWords.clear();
+        nextWord();
+    }
+
+    public void startLightning() {
+        stopLightning();
+        daily = null;
+        currentChances = 0;
+        totalScore = 0;
+        currentCategoryScore = 0;
+        wordsGuessedCorrectly = 0;
+        totalWordsAttempted = 0;
+        gameActive = true;
+        lightning = true;
 
-        // Get all available categories
-        List<String> availableCategories = new ArrayList<>(categories.keySet());
+        wordPipeline = new WordPipeline(categories, mainGame.uiManager.skinAtlas);
+        wordPipeline.start();
 
-        // Randomly select a category
-        currentCategory = availableCategories.get((int)(Math.random() * availableCategories.size()));
-        List<String> words = categories.get(currentCategory);
+        timeRemaining = LIGHTNING_TIME_LIMIT;
+        mainGame.uiManager.updateCategoryTimer();
+        nextWord();
+        startTimer();
+    }
 
-        // Filter out used words from this category
-        List<String> availableWords = new ArrayList<>();
-        for (String word : words) {
-            if (!usedWords.contains(word)) {
-                availableWords.add(word);
-            }
+    public void stopLightning() {
+        lightning = false;
+        if (wordPipeline != null) {
+            wordPipeline.stop();
+            wordPipeline = null;
         }
+    }
 
-        // If no available words in any category, we've completed the game
-        if (availableWords.isEmpty()) {
-            // Try other categories
-            boolean foundWord = false;
-            for (String category : availableCategories) {
-                List<String> categoryWords = categories.get(category);
-                for (String word : categoryWords) {
-                    if (!usedWords.contains(word)) {
-                        currentCategory = category;
-                        currentAnswer = word;
-                        usedWords.add(currentAnswer);
-                        foundWord = true;
-                        break;
-                    }
+    public int timeLimit() {
+        return lightning ? LIGHTNING_TIME_LIMIT : TIME_LIMIT;
+    }
+
+    // One entry per distinct word, all equally likely to start with
+    public void buildWordSampler() {
+        wordList = new ArrayList<>();
+        wordCategories = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String category : categoryOrder) {
+            for (String word : categories.get(category)) {
+                if (seen.add(word)) {
+                    wordList.add(word);
+                    wordCategories.add(category);
                 }
-                if (foundWord) break;
             }
+        }
+
+        wordCategory.clear();
+        for (int i = 0; i < wordList.size(); i++) {
+            wordCategory.put(wordList.get(i), wordCategories.get(i));
+        }
+        freshWordsSinceReview = 0;
+
+        double[] weights = new double[wordList.size()];
+        Arrays.fill(weights, 1.0);
+        wordSampler = new FenwickSampler(weights);
+    }
+
+    public void nextWord() {
+        if (lightning) {
+            // The word is already picked, scrambled and rendered - just deal it
+            PreparedWord word = wordPipeline.next();
+            currentCategory = word.category;
+            currentAnswer = word.answer;
+            scrambledWord = word.scrambled;
+            userInput = "";
+            inputLocked = false;
+            totalWordsAttempted++;
+            mainGame.uiManager.updateCategoryGameDisplay();
+            wordPipeline.wordShown();
+            return;
+        }
 
-            if (!foundWord) {
+        if (daily != null) {
+            // The day's words in order, already scrambled - no reviews, so everyone plays the same run
+            if (dailyIndex >= daily.answers.length) {
                 gameWon();
                 return;
             }
+            currentCategory = daily.categories[dailyIndex];
+            currentAnswer = daily.answers[dailyIndex];
+            scrambledWord = daily.scrambles[dailyIndex];
+            usedWords.add(currentAnswer);
+            dailyIndex++;
         } else {
-            // Pick a random available word from the selected category
-            currentAnswer = availableWords.get((int)(Math.random() * availableWords.size()));
-            usedWords.add(currentAnswer); // Mark as used
+            // Draw from every remaining word at once, so large and small categories run out together
+            if (wordSampler == null || wordSampler.total() <= 0) {
+                gameWon();
+                return;
+            }
+
+            String review = nextReviewWord();
+            if (review != null) {
+                currentCategory = wordCategory.get(review);
+                currentAnswer = review;
+            } else {
+                currentWordIndex = wordSampler.sample();
+                currentCategory = wordCategories.get(currentWordIndex);
+                currentAnswer = wordList.get(currentWordIndex);
+                usedWords.add(currentAnswer); // Mark as used
+                wordSampler.set(currentWordIndex, 0);
+                freshWordsSinceReview++;
+            }
+            scrambledWord = scrambleWord(currentAnswer);
         }
 
-        scrambledWord = scrambleWord(currentAnswer);
         userInput = "";
+        inputLocked = false;
         timeRemaining = TIME_LIMIT;
         totalWordsAttempted++;
 
@@ -179,6 +296,27 @@ public class CategoryGame {
         startTimer();
     }
 
+    // A due review word, if one is due and enough fresh words have been dealt since the last review
+    private String nextReviewWord() {
+        if (reviewScheduler == null || freshWordsSinceReview < FRESH_WORDS_PER_REVIEW) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        String word;
+        while ((word = reviewScheduler.takeDue(now)) != null) {
+            // Skip words from categories that are no longer loaded, and don't repeat the word just shown
+            if (wordCategory.containsKey(word) && !word.equals(currentAnswer)) {
+                freshWordsSinceReview = 0;
+                return word;
+            }
+            if (word.equals(currentAnswer)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     public String scrambleWord(String word) {
         char[] chars = word.toCharArray();
         for (int i = 0; i < chars.length; i++) {
@@ -190,6 +328,18 @@ public class CategoryGame {
         return new String(chars);
     }
 
+    // Seeded version for the Puzzle of the Day
+    public static String scrambleWord(String word, Random random) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            int randomIndex = random.nextInt(chars.length);
+            char temp = chars[i];
+            chars[i] = chars[randomIndex];
+            chars[randomIndex] = temp;
+        }
+        return new String(chars);
+    }
+
     public void startTimer() {
         if (gameTimer != null) {
             gameTimer.cancel();
@@ -200,7 +350,7 @@ public class CategoryGame {
             @Override
             public void run() {
                 timeRemaining--;
-                SwingUtilities.invokeLater(() -> {
+                mainGame.uiManager.edtScheduler.logic(() -> {
                     mainGame.uiManager.updateCategoryTimer();
                     if (timeRemaining <= 0) {
                         timeUp();
@@ -211,19 +361,33 @@ public class CategoryGame {
     }
 
     public void submitAnswer() {
+        if (lightning) {
+            // The clock keeps running between lightning words
+            if (isAcceptedAnswer(userInput)) {
+                totalScore += 50;
+                wordsGuessedCorrectly++;
+                wordPipeline.answerAccepted();
+                mainGame.uiManager.showCategorySuccess(50);
+            }
+            return;
+        }
+
         if (gameTimer != null) {
             gameTimer.cancel();
         }
 
-        if (userInput.equalsIgnoreCase(currentAnswer)) {
+        if (isAcceptedAnswer(userInput)) {
             // Correct answer - fixed 50 points per word
             int wordScore = 50;
 
             currentCategoryScore += wordScore;
             totalScore += wordScore;
             wordsGuessedCorrectly++;
+            if (daily == null && reviewScheduler != null) {
+                reviewScheduler.recordCorrect(currentAnswer, System.currentTimeMillis());
+            }
 
-            SwingUtilities.invokeLater(() -> {
+            mainGame.uiManager.edtScheduler.input(() -> {
                 mainGame.uiManager.showCategorySuccess(wordScore);
             });
         } else {
@@ -232,14 +396,72 @@ public class CategoryGame {
         }
     }
 
+    // The answer itself, or another word of the category using exactly the scrambled letters
+    public boolean isAcceptedAnswer(String input) {
+        return input.equalsIgnoreCase(currentAnswer)
+                || anagramIndex.accepts(currentCategory, currentAnswer, input);
+    }
+
+    // Called when the answer row is full but isn't an accepted answer
+    public void checkNearMiss() {
+        if (inputLocked || nearMissMatcher == null
+                || !nearMissMatcher.findInCategory(userInput, currentCategory, 1)) {
+            return;
+        }
+
+        if (nearMissMatcher.matchedDistance == 0) {
+            // A different word that also fits the category - worth partial credit
+            String otherWord = nearMissMatcher.matchedWord;
+            mainGame.uiManager.showAutoClosingMessage(otherWord + " is a " + getCategoryDisplayName().toLowerCase()
+                    + " too! We were looking for " + currentAnswer + ".\n+" + PARTIAL_CREDIT + " points",
+                    "Good Find!", 2000);
+            acceptAnswer(PARTIAL_CREDIT);
+        } else {
+            mainGame.uiManager.showAutoClosingMessage("One letter away from a " + getCategoryDisplayName().toLowerCase()
+                    + "!", "So Close!", 1500);
+        }
+    }
+
+    // Move on from a partially correct answer without costing a life
+    private void acceptAnswer(int score) {
+        totalScore += score;
+        if (lightning) {
+            wordPipeline.answerAccepted();
+            mainGame.uiManager.showCategorySuccess(score);
+            return;
+        }
+
+        if (gameTimer != null) {
+            gameTimer.cancel();
+        }
+        currentCategoryScore += score;
+        inputLocked = true; // Until the next word is dealt
+        mainGame.uiManager.edtScheduler.input(() -> {
+            mainGame.uiManager.showCategorySuccess(score);
+        });
+    }
+
     public void wrongAnswer() {
+        loseChance(false);
+    }
+
+    // A wrong answer is feedback to the player's input, running out of time is a game deadline
+    private void loseChance(boolean timedOut) {
         currentChances++;
+        if (!lightning && daily == null && reviewScheduler != null) {
+            // Bring the word back once it is due for review - not from the daily run, which is the same for everyone
+            reviewScheduler.recordMiss(currentAnswer, System.currentTimeMillis());
+        }
         if (currentChances >= MAX_CHANCES) {
             gameOver();
         } else {
-            SwingUtilities.invokeLater(() -> {
-                mainGame.uiManager.showCategoryWrongAnswer();
-            });
+            inputLocked = true;
+            Runnable feedback = () -> mainGame.uiManager.showCategoryWrongAnswer();
+            if (timedOut) {
+                mainGame.uiManager.edtScheduler.logic(feedback);
+            } else {
+                mainGame.uiManager.edtScheduler.input(feedback);
+            }
         }
     }
 
@@ -247,7 +469,16 @@ public class CategoryGame {
         if (gameTimer != null) {
             gameTimer.cancel();
         }
-        wrongAnswer();
+        if (lightning) {
+            gameActive = false;
+            inputLocked = true;
+            stopLightning();
+            mainGame.uiManager.edtScheduler.logic(() -> {
+                mainGame.uiManager.showLightningResults();
+            });
+            return;
+        }
+        loseChance(true);
     }
 
     public void gameOver() {
@@ -255,7 +486,7 @@ public class CategoryGame {
         if (gameTimer != null) {
             gameTimer.cancel();
         }
-        SwingUtilities.invokeLater(() -> {
+        mainGame.uiManager.edtScheduler.logic(() -> {
             mainGame.uiManager.showCategoryGameOver();
         });
     }
@@ -265,7 +496,7 @@ public class CategoryGame {
         if (gameTimer != null) {
             gameTimer.cancel();
         }
-        SwingUtilities.invokeLater(() -> {
+        mainGame.uiManager.edtScheduler.logic(() -> {
             mainGame.uiManager.showCategoryGameWon();
         });
     }
@@ -277,20 +508,21 @@ public class CategoryGame {
     }
 
     public void addLetter(char letter) {
-        if (userInput.length() < currentAnswer.length()) {
+        if (!inputLocked && userInput.length() < currentAnswer.length()) {
             userInput += letter;
             mainGame.uiManager.updateCategoryInput();
         }
     }
 
     public void removeLetter() {
-        if (userInput.length() > 0) {
+        if (!inputLocked && userInput.length() > 0) {
             userInput = userInput.substring(0, userInput.length() - 1);
             mainGame.uiManager.updateCategoryInput();
         }
     }
 
     public void clearInput() {
+        if (inputLocked) return;
         userInput = "";
         mainGame.uiManager.updateCategoryInput();
     }
@@ -0,0 +1,159 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+
+public class CategoryStage extends JComponent implements FrameClock.FrameListener {
+    // Scrambled tile row and answer row of the category screen, painted from CategoryGame state
+    private static final long serialVersionUID = 1L;
+    public static final int TILE_SIZE = 90;
+    public static final int TILE_GAP = 15;
+    public static final int INPUT_SIZE = 50;
+    public static final int INPUT_GAP = 8;
+    public static final int ROW_GAP = 20;
+    public static final int AUTO_SUBMIT_DELAY = 500; // 500ms delay to show the completed word
+
+    private WordScrambleGame game;
+    private SkinAtlas skinAtlas;
+
+    // Row geometry, recomputed when the word or the component width changes
+    private int layoutWidth = -1;
+    private int layoutLength = -1;
+    private int tileSize = TILE_SIZE;
+    private int tilesX;
+    private int tilesY;
+    private int inputX;
+    private int inputY;
+
+    // Auto-submit deadline, 0 when not armed
+    private long autoSubmitAt = 0;
+
+    public CategoryStage(WordScrambleGame game, SkinAtlas skinAtlas) {
+        this.game = game;
+        this.skinAtlas = skinAtlas;
+        setOpaque(false);
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = tileAt(e.getX(), e.getY());
+                if (index >= 0) {
+                    game.categoryGame.addLetter(game.categoryGame.scrambledWord.charAt(index));
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setCursor(Cursor.getPredefinedCursor(tileAt(e.getX(), e.getY()) >= 0
+                        ? Cursor.HAND_CURSOR : Cursor.DEFAULT_CURSOR));
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(600, TILE_SIZE + 4 + ROW_GAP + INPUT_SIZE + 2 + 30);
+    }
+
+    // Called when a new word is dealt
+    public void wordChanged() {
+        autoSubmitAt = 0;
+        layoutLength = -1;
+        repaint();
+    }
+
+    // Called on every keystroke - only the answer row is repainted
+    public void inputChanged() {
+        CategoryGame categoryGame = game.categoryGame;
+        if (categoryGame.userInput.length() == categoryGame.currentAnswer.length()
+                && categoryGame.isAcceptedAnswer(categoryGame.userInput)) {
+            if (categoryGame.lightning) {
+                // No pause to admire the word in lightning mode
+                autoSubmitAt = 0;
+                categoryGame.submitAnswer();
+                return;
+            }
+            autoSubmitAt = System.currentTimeMillis() + AUTO_SUBMIT_DELAY;
+        } else {
+            autoSubmitAt = 0;
+            if (categoryGame.userInput.length() == categoryGame.currentAnswer.length()) {
+                categoryGame.checkNearMiss();
+            }
+        }
+
+        updateLayout();
+        repaint(0, inputY, getWidth(), INPUT_SIZE + 2);
+    }
+
+    @Override
+    public void onFrame(long now) {
+        if (autoSubmitAt != 0 && now >= autoSubmitAt) {
+            autoSubmitAt = 0;
+            if (game.categoryGame.gameActive) {
+                game.categoryGame.submitAnswer();
+            }
+        }
+    }
+
+    private void updateLayout() {
+        String scrambled = game.categoryGame.scrambledWord;
+        int width = getWidth();
+        if (width == layoutWidth && scrambled.length() == layoutLength) {
+            return;
+        }
+        layoutWidth = width;
+        layoutLength = scrambled.length();
+
+        // Shrink the tiles if a long word would not fit on one row
+        int count = Math.max(1, scrambled.length());
+        tileSize = Math.min(TILE_SIZE, (width - TILE_GAP * (count + 1)) / count);
+        tileSize = Math.max(INPUT_SIZE, tileSize);
+
+        int rowWidth = count * tileSize + (count - 1) * TILE_GAP;
+        tilesX = (width - rowWidth) / 2;
+        tilesY = TILE_GAP;
+
+        int answerLength = game.categoryGame.currentAnswer.length();
+        int inputWidth = answerLength * INPUT_SIZE + Math.max(0, answerLength - 1) * INPUT_GAP;
+        inputX = (width - inputWidth) / 2;
+        inputY = tilesY + TILE_SIZE + 4 + ROW_GAP;
+    }
+
+    private int tileAt(int x, int y) {
+        updateLayout();
+        if (y < tilesY || y >= tilesY + tileSize) {
+            return -1;
+        }
+        int length = game.categoryGame.scrambledWord.length();
+        for (int i = 0; i < length; i++) {
+            int tileX = tilesX + i * (tileSize + TILE_GAP);
+            if (x >= tileX && x < tileX + tileSize) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        updateLayout();
+
+        String scrambled = game.categoryGame.scrambledWord;
+        for (int i = 0; i < scrambled.length(); i++) {
+            BufferedImage tile = skinAtlas.tile(SkinAtlas.TileStyle.CARTOON_TILE, scrambled.charAt(i), tileSize);
+            g.drawImage(tile, tilesX + i * (tileSize + TILE_GAP), tilesY, null);
+        }
+
+        String userInput = game.categoryGame.userInput;
+        int answerLength = game.categoryGame.currentAnswer.length();
+        for (int i = 0; i < answerLength; i++) {
+            BufferedImage box = i < userInput.length()
+                    ? skinAtlas.tile(SkinAtlas.TileStyle.ANSWER_FILLED, userInput.charAt(i))
+                    : skinAtlas.tile(SkinAtlas.TileStyle.ANSWER_EMPTY, ' ');
+            g.drawImage(box, inputX + i * (INPUT_SIZE + INPUT_GAP), inputY, null);
+        }
+    }
+}
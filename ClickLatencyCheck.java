@@ -0,0 +1,140 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ClickLatencyCheck {
+    // Clicks scramble and word grid tiles headless while the heaviest effects run - every bubble,
+    // bouncing and shaking tiles, toasts, cell flashes and a full repaint each frame - and times each
+    // click until the next painted frame. Exits 1 if the p99 is a frame or more.
+    // Run with: java ClickLatencyCheck [clicks]
+    public static final int MIN_GAP_MS = 30; // Between synthetic clicks, faster than anyone taps
+    public static final int MAX_GAP_MS = 90;
+
+    private static BufferedImage frame;
+
+    public static void main(String[] args) throws Exception {
+        int clicks = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+
+        WordScrambleGame game = ScreenSwapBenchmark.headlessGame();
+        game.gameLogic.loadWordSets();
+        UIManager uiManager = game.uiManager;
+        JLabel[] scrambleTiles = new JLabel[1];
+        JLabel[] gridTiles = new JLabel[1];
+
+        SwingUtilities.invokeAndWait(() -> {
+            // Without a window nothing is painted, so repaint requests paint the whole frame off-screen
+            // the way the RepaintManager would: once, on the EDT, after the work that asked for it
+            RepaintManager.setCurrentManager(new FramePainter(uiManager));
+
+            uiManager.initializeUI();
+            JPanel mainPanel = uiManager.getMainPanel();
+            mainPanel.setSize(UIManager.WINDOW_WIDTH, UIManager.WINDOW_HEIGHT);
+            uiManager.notificationLayer.setSize(UIManager.WINDOW_WIDTH, UIManager.WINDOW_HEIGHT);
+            frame = new BufferedImage(UIManager.WINDOW_WIDTH, UIManager.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+            // A scramble round on the game screen
+            GameState gameState = game.gameState;
+            gameState.resetForNewGame();
+            gameState.resetForNewRound();
+            game.gameLogic.applyRound(gameState, game.gameLogic.prepareRound());
+            uiManager.ensureScreen("game");
+            uiManager.updateLetterTiles();
+            scrambleTiles[0] = (JLabel) uiManager.letterTilesPanel.getComponent(0);
+
+            // A word grid board, dealt by hand so no generator is needed
+            GridGame gridGame = game.gridGame;
+            gridGame.board = new GridBoard(4, "WORDGAMETILEPANE".toCharArray(), 0);
+            gridGame.board.words = new LinkedHashSet<>();
+            gridGame.gameState.currentGameState = "playing";
+            uiManager.ensureScreen("gridGame");
+            uiManager.updateGridGameTiles();
+            gridTiles[0] = uiManager.gridGameTiles[0];
+
+            uiManager.showScreen("game");
+            mainPanel.doLayout();
+
+            // Press and release are timed separately, so a click can give two samples
+            LatencyStats latency = new LatencyStats("click-to-feedback", clicks * 2);
+            latency.enabled = true;
+            uiManager.edtScheduler.clickLatency = latency;
+
+            // Heavy effects, all driven by the frame clock like the real ones
+            game.animationManager.applyQuality(QualityController.TIERS[QualityController.TIERS.length - 1]);
+            game.animationManager.startTileAnimation(uiManager.letterTilesPanel);
+            uiManager.frameClock.addListener(new FrameClock.FrameListener() {
+                private int frames = 0;
+
+                @Override
+                public void onFrame(long now) {
+                    frames++;
+                    game.animationManager.stepBubbles();
+                    if (frames % 10 == 0) {
+                        game.animationManager.startShuffleAnimation(uiManager.letterTilesPanel);
+                    }
+                    if (frames % 20 == 0) {
+                        uiManager.notificationLayer.showToast("Effects", "A toast every second", 800);
+                    }
+                    if (frames % 5 == 0) {
+                        game.animationManager.animateGridCell(gridTiles[0]);
+                    }
+                    mainPanel.repaint();
+                }
+            });
+        });
+
+        // Warm up the paint path, then click: scramble tiles on the game screen, then grid tiles on the grid screen
+        Thread.sleep(1000);
+        Random random = new Random(42);
+        EventQueue queue = Toolkit.getDefaultToolkit().getSystemEventQueue();
+        for (int i = 0; i < clicks; i++) {
+            if (i == clicks / 2) {
+                SwingUtilities.invokeAndWait(() -> uiManager.showScreen("gridGame"));
+            }
+            if (i < clicks / 2 && i % 3 == 0) {
+                // Keep the typed word short so every click adds a letter
+                SwingUtilities.invokeAndWait(() -> game.gameState.currentInputWord = "");
+            }
+            JLabel tile = i < clicks / 2 ? scrambleTiles[0] : gridTiles[0];
+            long when = System.currentTimeMillis();
+            queue.postEvent(new MouseEvent(tile, MouseEvent.MOUSE_PRESSED, when, 0, 5, 5, 1, false));
+            queue.postEvent(new MouseEvent(tile, MouseEvent.MOUSE_RELEASED, when, 0, 5, 5, 1, false));
+            queue.postEvent(new MouseEvent(tile, MouseEvent.MOUSE_CLICKED, when, 0, 5, 5, 1, false));
+            Thread.sleep(MIN_GAP_MS + random.nextInt(MAX_GAP_MS - MIN_GAP_MS));
+        }
+
+        boolean[] failed = new boolean[1];
+        SwingUtilities.invokeAndWait(() -> {
+            LatencyStats latency = uiManager.edtScheduler.clickLatency;
+            latency.report();
+            failed[0] = latency.p99 < 0 || latency.p99 >= FrameClock.FRAME_MS;
+        });
+        System.out.println(failed[0] ? "FAIL" : "PASS");
+        System.exit(failed[0] ? 1 : 0);
+    }
+
+    private static class FramePainter extends RepaintManager {
+        private UIManager uiManager;
+        private AtomicBoolean posted = new AtomicBoolean();
+
+        FramePainter(UIManager uiManager) {
+            this.uiManager = uiManager;
+        }
+
+        @Override
+        public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+            if (frame != null && posted.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(() -> {
+                    posted.set(false);
+                    Graphics g = frame.createGraphics();
+                    uiManager.getMainPanel().paint(g);
+                    uiManager.notificationLayer.paint(g); // Calls framePainted(), as the glass pane does
+                    g.dispose();
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+public class CrosswordLayout {
+    // Where each word of a round sits in an interlocking crossword, in currentWordSet order
+    public static final long BUDGET_NANOS = 8_000_000L; // Half a 60 Hz frame
+    public static final int MAX_ROWS = 9;  // Bigger crosswords would shrink the tiles below readable
+    public static final int MAX_COLS = 15;
+
+    public int rows;
+    public int cols;
+    public int[] slotRow;
+    public int[] slotCol;
+    public boolean[] slotAcross;
+    public int[] slotLength;
+
+    public CrosswordLayout(int rows, int cols, int[] slotRow, int[] slotCol, boolean[] slotAcross, int[] slotLength) {
+        this.rows = rows;
+        this.cols = cols;
+        this.slotRow = slotRow;
+        this.slotCol = slotCol;
+        this.slotAcross = slotAcross;
+        this.slotLength = slotLength;
+    }
+
+    // Grid row and column of a letter of a word
+    public int row(int slot, int position) {
+        return slotRow[slot] + (slotAcross[slot] ? 0 : position);
+    }
+
+    public int col(int slot, int position) {
+        return slotCol[slot] + (slotAcross[slot] ? position : 0);
+    }
+
+    // Whether a word runs through a grid cell
+    public boolean covers(int slot, int row, int col) {
+        if (slotAcross[slot]) {
+            return row == slotRow[slot] && col >= slotCol[slot] && col < slotCol[slot] + slotLength[slot];
+        }
+        return col == slotCol[slot] && row >= slotRow[slot] && row < slotRow[slot] + slotLength[slot];
+    }
+
+    // Interlock every word within MAX_ROWS x MAX_COLS, or null if they can't be or the search runs past the budget
+    public static CrosswordLayout place(String[] words, long budgetNanos) {
+        return new CrosswordPlacer(words, MAX_ROWS, MAX_COLS).place(System.nanoTime() + budgetNanos);
+    }
+}
+
+class CrosswordPlacer {
+    // Backtracking placer. The board is kept as bitboards - one long per row of occupied columns and
+    // one per column of occupied rows, plus which cells belong to across and to down words - so
+    // checking a placement against its neighbours is a few mask operations instead of a cell scan.
+    public static final int SIZE = 48;
+
+    private String[] words;
+    private int[] order; // Longest words first, they give the others the most to cross
+    private char[][] letters = new char[SIZE][SIZE];
+    private long[] occupiedRows = new long[SIZE];    // Bit c of row r: cell (r, c) has a letter
+    private long[] occupiedCols = new long[SIZE];    // Bit r of column c: the same, transposed
+    private long[] acrossCells = new long[SIZE];     // By row, cells of across words
+    private long[] downCells = new long[SIZE];       // By column, cells of down words
+
+    private int[] row;
+    private int[] col;
+    private boolean[] across;
+    private long[] newCells; // Cells a placement filled, so it can be undone
+    private int[] placedOrder;
+    private int placedCount = 0;
+
+    // Bounding box of the words placed so far, and what it was before each placement
+    private int maxRows;
+    private int maxCols;
+    private int top, bottom, left, right;
+    private int[][] savedBox;
+
+    private long deadline;
+    private int steps = 0;
+    private boolean timedOut = false;
+
+    public CrosswordPlacer(String[] words, int maxRows, int maxCols) {
+        this.maxRows = maxRows;
+        this.maxCols = maxCols;
+        this.words = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            this.words[i] = words[i].toUpperCase();
+        }
+        row = new int[words.length];
+        col = new int[words.length];
+        across = new boolean[words.length];
+        newCells = new long[words.length];
+        placedOrder = new int[words.length];
+        savedBox = new int[words.length][4];
+
+        order = new int[words.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = 1; i < order.length; i++) {
+            int word = order[i];
+            int j = i - 1;
+            while (j >= 0 && this.words[order[j]].length() < this.words[word].length()) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = word;
+        }
+    }
+
+    public CrosswordLayout place(long deadline) {
+        this.deadline = deadline;
+        if (words.length == 0) {
+            return null;
+        }
+
+        int first = order[0];
+        if (words[first].length() > maxCols) {
+            return null;
+        }
+        top = SIZE;
+        bottom = -1;
+        left = SIZE;
+        right = -1;
+        put(first, SIZE / 2, (SIZE - words[first].length()) / 2, true);
+        if (!search(1)) {
+            return null;
+        }
+
+        // Crop to the words' bounding box
+        int[] slotRow = new int[words.length];
+        int[] slotCol = new int[words.length];
+        int[] slotLength = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            slotRow[i] = row[i] - top;
+            slotCol[i] = col[i] - left;
+            slotLength[i] = words[i].length();
+        }
+        return new CrosswordLayout(bottom - top + 1, right - left + 1, slotRow, slotCol, across.clone(), slotLength);
+    }
+
+    private boolean search(int k) {
+        if (k == order.length) {
+            return true;
+        }
+        if ((++steps & 255) == 0 && System.nanoTime() > deadline) {
+            timedOut = true;
+        }
+        if (timedOut) {
+            return false;
+        }
+
+        int word = order[k];
+        String text = words[word];
+
+        // Try every way of crossing a letter of a word already on the board
+        for (int p = 0; p < placedCount; p++) {
+            int other = placedOrder[p];
+            String otherText = words[other];
+            boolean placeAcross = !across[other];
+            for (int i = 0; i < otherText.length(); i++) {
+                int crossRow = row[other] + (across[other] ? 0 : i);
+                int crossCol = col[other] + (across[other] ? i : 0);
+                for (int j = 0; j < text.length(); j++) {
+                    if (text.charAt(j) != otherText.charAt(i)) {
+                        continue;
+                    }
+                    int startRow = placeAcross ? crossRow : crossRow - j;
+                    int startCol = placeAcross ? crossCol - j : crossCol;
+                    if (!fitsBox(text.length(), startRow, startCol, placeAcross)) {
+                        continue;
+                    }
+                    boolean fits = placeAcross ? fitsAcross(text, startRow, startCol) : fitsDown(text, startRow, startCol);
+                    if (fits) {
+                        put(word, startRow, startCol, placeAcross);
+                        if (search(k + 1)) {
+                            return true;
+                        }
+                        remove(word);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean fitsBox(int length, int r, int c, boolean placeAcross) {
+        int endRow = placeAcross ? r : r + length - 1;
+        int endCol = placeAcross ? c + length - 1 : c;
+        return Math.max(bottom, endRow) - Math.min(top, r) < maxRows
+                && Math.max(right, endCol) - Math.min(left, c) < maxCols;
+    }
+
+    private boolean fitsAcross(String text, int r, int c) {
+        int length = text.length();
+        if (r < 0 || r >= SIZE || c < 0 || c + length > SIZE) {
+            return false;
+        }
+        long span = ((1L << length) - 1) << c;
+        if ((acrossCells[r] & span) != 0) {
+            return false; // Runs along another across word
+        }
+        long ends = (c > 0 ? 1L << (c - 1) : 0) | (c + length < SIZE ? 1L << (c + length) : 0);
+        if ((occupiedRows[r] & ends) != 0) {
+            return false; // Would run into a letter and read as a longer word
+        }
+        long crossings = occupiedRows[r] & span;
+        long free = span & ~occupiedRows[r];
+        long sides = (r > 0 ? occupiedRows[r - 1] : 0) | (r + 1 < SIZE ? occupiedRows[r + 1] : 0);
+        if (crossings == 0 || (sides & free) != 0) {
+            return false; // Must cross something, and new letters can't touch others side by side
+        }
+        for (long bits = crossings; bits != 0; bits &= bits - 1) {
+            int cell = Long.numberOfTrailingZeros(bits);
+            if (letters[r][cell] != text.charAt(cell - c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fitsDown(String text, int r, int c) {
+        int length = text.length();
+        if (c < 0 || c >= SIZE || r < 0 || r + length > SIZE) {
+            return false;
+        }
+        long span = ((1L << length) - 1) << r;
+        if ((downCells[c] & span) != 0) {
+            return false;
+        }
+        long ends = (r > 0 ? 1L << (r - 1) : 0) | (r + length < SIZE ? 1L << (r + length) : 0);
+        if ((occupiedCols[c] & ends) != 0) {
+            return false;
+        }
+        long crossings = occupiedCols[c] & span;
+        long free = span & ~occupiedCols[c];
+        long sides = (c > 0 ? occupiedCols[c - 1] : 0) | (c + 1 < SIZE ? occupiedCols[c + 1] : 0);
+        if (crossings == 0 || (sides & free) != 0) {
+            return false;
+        }
+        for (long bits = crossings; bits != 0; bits &= bits - 1) {
+            int cell = Long.numberOfTrailingZeros(bits);
+            if (letters[cell][c] != text.charAt(cell - r)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(int word, int r, int c, boolean placeAcross) {
+        String text = words[word];
+        row[word] = r;
+        col[word] = c;
+        across[word] = placeAcross;
+        placedOrder[placedCount++] = word;
+
+        int[] box = savedBox[word];
+        box[0] = top;
+        box[1] = bottom;
+        box[2] = left;
+        box[3] = right;
+        top = Math.min(top, r);
+        left = Math.min(left, c);
+        bottom = Math.max(bottom, placeAcross ? r : r + text.length() - 1);
+        right = Math.max(right, placeAcross ? c + text.length() - 1 : c);
+
+        long filled = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int cellRow = placeAcross ? r : r + i;
+            int cellCol = placeAcross ? c + i : c;
+            if ((occupiedRows[cellRow] & (1L << cellCol)) == 0) {
+                filled |= 1L << i;
+                letters[cellRow][cellCol] = text.charAt(i);
+                occupiedRows[cellRow] |= 1L << cellCol;
+                occupiedCols[cellCol] |= 1L << cellRow;
+            }
+            if (placeAcross) {
+                acrossCells[cellRow] |= 1L << cellCol;
+            } else {
+                downCells[cellCol] |= 1L << cellRow;
+            }
+        }
+        newCells[word] = filled;
+    }
+
+    private void remove(int word) {
+        String text = words[word];
+        placedCount--;
+        int[] box = savedBox[word];
+        top = box[0];
+        bottom = box[1];
+        left = box[2];
+        right = box[3];
+        for (int i = 0; i < text.length(); i++) {
+            int cellRow = across[word] ? row[word] : row[word] + i;
+            int cellCol = across[word] ? col[word] + i : col[word];
+            if ((newCells[word] & (1L << i)) != 0) {
+                letters[cellRow][cellCol] = 0;
+                occupiedRows[cellRow] &= ~(1L << cellCol);
+                occupiedCols[cellCol] &= ~(1L << cellRow);
+            }
+            if (across[word]) {
+                acrossCells[cellRow] &= ~(1L << cellCol);
+            } else {
+                downCells[cellCol] &= ~(1L << cellRow);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+import java.io.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.List;
+
+public class DailyCalendar {
+    // Puzzle of the Day: the date seeds the choice of word set, its scramble and the category words,
+    // so everyone with the same word sets and categories gets the same puzzle. Upcoming days are
+    // worked out in a background pass and kept in a small cache file, so opening today's puzzle is
+    // a lookup. Only the shared content files are drawn from - the local dictionary differs per player.
+    public static final int DAYS_AHEAD = 7;
+    public static final int CATEGORY_WORDS = 10;
+    public static final long SEED_SALT = 0x5DEECE66DL;
+
+    private File file;
+    private Map<LocalDate, DailyPuzzle> days = new TreeMap<>();
+    private boolean loaded = false;
+
+    // The content the puzzles are drawn from, and a fingerprint of it so a changed word list invalidates the cache
+    private List<WordSet> wordSets;
+    private Map<String, List<String>> categories;
+    private String contentKey = "";
+
+    public DailyCalendar(File file) {
+        this.file = file;
+    }
+
+    public static String cacheFile() {
+        return "daily-" + System.getProperty("wordgame.profile", "default") + ".cache";
+    }
+
+    // Background pass: make sure today and the next days are in the cache, dropping days gone by
+    public synchronized void precompute(List<WordSet> wordSets, Map<String, List<String>> categories, LocalDate today) {
+        this.wordSets = wordSets;
+        this.categories = categories;
+        contentKey = fingerprint(wordSets, categories);
+        if (!loaded) {
+            load();
+            loaded = true;
+        }
+
+        boolean changed = days.keySet().removeIf(day -> day.isBefore(today));
+        for (int i = 0; i < DAYS_AHEAD; i++) {
+            LocalDate day = today.plusDays(i);
+            if (!days.containsKey(day)) {
+                days.put(day, select(day));
+                changed = true;
+            }
+        }
+        if (changed) {
+            save();
+        }
+    }
+
+    // The day's puzzle - from the cache when the background pass has run, worked out here otherwise
+    public synchronized DailyPuzzle puzzleFor(LocalDate day) {
+        DailyPuzzle puzzle = days.get(day);
+        if (puzzle == null && wordSets != null) {
+            puzzle = select(day);
+            days.put(day, puzzle);
+        }
+        return puzzle;
+    }
+
+    // Everything random about the puzzle comes from one generator seeded by the date, in a fixed order
+    public DailyPuzzle select(LocalDate day) {
+        Random random = new Random(SEED_SALT ^ day.toEpochDay());
+        DailyPuzzle puzzle = new DailyPuzzle(day);
+
+        WordSet wordSet = wordSets.isEmpty()
+                ? new WordSet("SHSMA", new String[]{"HAM", "HAS", "ASH", "MASH", "MASS", "SMASH"})
+                : wordSets.get(random.nextInt(wordSets.size()));
+        puzzle.words = wordSet.words.clone();
+        puzzle.letters = GameLogic.shuffleString(wordSet.letters, random);
+
+        // Category words: distinct words over every category, in name order then file order
+        List<String> pool = new ArrayList<>();
+        List<String> poolCategories = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<String> names = new ArrayList<>(categories.keySet());
+        Collections.sort(names);
+        for (String name : names) {
+            for (String word : categories.get(name)) {
+                if (seen.add(word)) {
+                    pool.add(word);
+                    poolCategories.add(name);
+                }
+            }
+        }
+
+        int count = Math.min(CATEGORY_WORDS, pool.size());
+        puzzle.categories = new String[count];
+        puzzle.answers = new String[count];
+        puzzle.scrambles = new String[count];
+        for (int i = 0; i < count; i++) {
+            // Partial Fisher-Yates: the first count entries end up a random sample
+            int j = i + random.nextInt(pool.size() - i);
+            Collections.swap(pool, i, j);
+            Collections.swap(poolCategories, i, j);
+            puzzle.categories[i] = poolCategories.get(i);
+            puzzle.answers[i] = pool.get(i);
+            puzzle.scrambles[i] = CategoryGame.scrambleWord(pool.get(i), random);
+        }
+        return puzzle;
+    }
+
+    private static String fingerprint(List<WordSet> wordSets, Map<String, List<String>> categories) {
+        long hash = 17;
+        for (WordSet wordSet : wordSets) {
+            hash = hash * 31 + wordSet.letters.hashCode();
+            for (String word : wordSet.words) {
+                hash = hash * 31 + word.hashCode();
+            }
+        }
+        List<String> names = new ArrayList<>(categories.keySet());
+        Collections.sort(names);
+        for (String name : names) {
+            hash = hash * 31 + name.hashCode();
+            for (String word : categories.get(name)) {
+                hash = hash * 31 + word.hashCode();
+            }
+        }
+        return Long.toHexString(hash);
+    }
+
+    // One line per day: date|letters|words|category:answer:scramble,... after a line with the content key
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            if (!contentKey.equals(reader.readLine())) {
+                return; // Drawn from other word sets or categories, work the days out again
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\\|");
+                if (fields.length < 4) {
+                    continue;
+                }
+                DailyPuzzle puzzle = new DailyPuzzle(LocalDate.parse(fields[0]));
+                puzzle.letters = fields[1];
+                puzzle.words = fields[2].split(",");
+                String[] entries = fields[3].isEmpty() ? new String[0] : fields[3].split(",");
+                puzzle.categories = new String[entries.length];
+                puzzle.answers = new String[entries.length];
+                puzzle.scrambles = new String[entries.length];
+                for (int i = 0; i < entries.length; i++) {
+                    String[] parts = entries[i].split(":");
+                    puzzle.categories[i] = parts[0];
+                    puzzle.answers[i] = parts[1];
+                    puzzle.scrambles[i] = parts[2];
+                }
+                days.put(puzzle.date, puzzle);
+            }
+        } catch (IOException | RuntimeException e) {
+            // A damaged cache is only lost work, the days are worked out again
+            e.printStackTrace();
+            days.clear();
+        }
+    }
+
+    private void save() {
+        File temp = new File(file.getPath() + ".tmp");
+        try (PrintWriter writer = new PrintWriter(new FileWriter(temp))) {
+            writer.println(contentKey);
+            for (DailyPuzzle puzzle : days.values()) {
+                writer.print(puzzle.date + "|" + puzzle.letters + "|" + String.join(",", puzzle.words) + "|");
+                for (int i = 0; i < puzzle.answers.length; i++) {
+                    writer.print((i > 0 ? "," : "") + puzzle.categories[i] + ":" + puzzle.answers[i] + ":" + puzzle.scrambles[i]);
+                }
+                writer.println();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        if (file.exists() && !file.delete()) {
+            return;
+        }
+        temp.renameTo(file);
+    }
+}
@@ -0,0 +1,18 @@
+import java.time.LocalDate;
+
+public class DailyPuzzle {
+    public LocalDate date;
+
+    // The scramble round, letters already shuffled
+    public String letters;
+    public String[] words;
+
+    // The category run, dealt in this order with these scrambles
+    public String[] categories;
+    public String[] answers;
+    public String[] scrambles;
+
+    public DailyPuzzle(LocalDate date) {
+        this.date = date;
+    }
+}
@@ -0,0 +1,136 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EdtScheduler {
+    // Orders work posted to the EDT from timer threads: input follow-ups first, then game logic,
+    // then cosmetic frames. Cosmetic work is merged by key, capped per drain, and yields to pending input.
+    public static final long COSMETIC_BUDGET_NANOS = 4_000_000L;
+
+    private static final int[] INPUT_EVENT_IDS = {
+            MouseEvent.MOUSE_PRESSED, MouseEvent.MOUSE_RELEASED, MouseEvent.MOUSE_CLICKED,
+            KeyEvent.KEY_PRESSED, KeyEvent.KEY_TYPED};
+
+    private final Object lock = new Object();
+    private ArrayDeque<Runnable> inputTasks = new ArrayDeque<>();
+    private ArrayDeque<Runnable> logicTasks = new ArrayDeque<>();
+    private LinkedHashMap<Object, Runnable> cosmeticTasks = new LinkedHashMap<>(); // A newer frame replaces a stale one
+    private boolean drainPosted = false;
+
+    public LatencyStats clickLatency = new LatencyStats("click-to-feedback");
+
+    public void input(Runnable task) {
+        synchronized (lock) {
+            inputTasks.add(task);
+            postDrain();
+        }
+    }
+
+    // Work answering a click or key press - the event's time starts the click-to-feedback clock
+    public void input(InputEvent event, Runnable task) {
+        clickLatency.inputReceived(event.getWhen());
+        input(task);
+    }
+
+    public void logic(Runnable task) {
+        synchronized (lock) {
+            logicTasks.add(task);
+            postDrain();
+        }
+    }
+
+    public void cosmetic(Object key, Runnable task) {
+        synchronized (lock) {
+            cosmeticTasks.put(key, task);
+            postDrain();
+        }
+    }
+
+    // Caller holds the lock
+    private void postDrain() {
+        if (!drainPosted) {
+            drainPosted = true;
+            SwingUtilities.invokeLater(() -> drain());
+        }
+    }
+
+    private void drain() {
+        synchronized (lock) {
+            drainPosted = false;
+        }
+
+        // Input and logic run to completion, input always ahead of the next logic task
+        Runnable task;
+        while ((task = nextUrgentTask()) != null) {
+            run(task);
+        }
+
+        // Cosmetic work gets a time budget and steps aside as soon as the user does something
+        long deadline = System.nanoTime() + COSMETIC_BUDGET_NANOS;
+        boolean first = true;
+        while (true) {
+            synchronized (lock) {
+                if (cosmeticTasks.isEmpty()) {
+                    break;
+                }
+                if (!first && (System.nanoTime() > deadline || inputPending())) {
+                    postDrain();
+                    break;
+                }
+                Iterator<Map.Entry<Object, Runnable>> iterator = cosmeticTasks.entrySet().iterator();
+                task = iterator.next().getValue();
+                iterator.remove();
+            }
+            run(task);
+            first = false;
+        }
+    }
+
+    private Runnable nextUrgentTask() {
+        synchronized (lock) {
+            if (!inputTasks.isEmpty()) {
+                return inputTasks.poll();
+            }
+            return logicTasks.poll();
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private boolean inputPending() {
+        EventQueue queue = Toolkit.getDefaultToolkit().getSystemEventQueue();
+        for (int id : INPUT_EVENT_IDS) {
+            if (queue.peekEvent(id) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Latency measurement: a click or key press is timed until the next frame is painted
+    public void installLatencyProbe() {
+        Toolkit.getDefaultToolkit().addAWTEventListener(event -> {
+            int id = event.getID();
+            if (id == MouseEvent.MOUSE_RELEASED || id == KeyEvent.KEY_PRESSED) {
+                clickLatency.inputReceived(((InputEvent) event).getWhen());
+            }
+        }, AWTEvent.MOUSE_EVENT_MASK | AWTEvent.KEY_EVENT_MASK);
+    }
+
+    // Called from the topmost layer's paint, after everything beneath it has been drawn
+    public void framePainted() {
+        clickLatency.feedbackShown(System.currentTimeMillis());
+    }
+}
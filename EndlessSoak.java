@@ -0,0 +1,115 @@
+import java.util.*;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class EndlessSoak {
+    // Plays endless mode headless for many rounds - stream, deal, answer, hint, restart the round clock -
+    // and checks that heap after GC and live threads stay flat once warmed up. Exits 1 if they grow.
+    // Run with: java EndlessSoak [rounds]
+    public static final int CHECK_EVERY = 1000;
+    public static final long HEAP_SLACK = 8L * 1024 * 1024; // GC noise allowed above the warmed-up baseline
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+
+        GameLogic gameLogic = new GameLogic(new FileManager(), null);
+        gameLogic.loadWordSets();
+        if (gameLogic.boardGenerator.size() < 10000) {
+            // No dictionary here, generated boards need a lexicon to ramp up to 8 letters
+            gameLogic.boardGenerator = new BoardGenerator(BoardBenchmark.syntheticLexicon(BoardBenchmark.SYNTHETIC_WORDS));
+        }
+
+        ExecutorService prefetcher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "round-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        RoundStream roundStream = new RoundStream(gameLogic, prefetcher, null);
+
+        GameState gameState = new GameState();
+        gameState.endless = true;
+        gameState.resetForNewGame();
+        gameState.gameTimer = new Timer("round-clock", true);
+        roundStream.restart();
+
+        long baselineHeap = -1;
+        int baselineThreads = -1;
+        boolean failed = false;
+        long start = System.nanoTime();
+
+        for (int round = 1; round <= rounds; round++) {
+            gameState.currentRound = round;
+            gameState.resetForNewRound();
+            gameLogic.applyRound(gameState, roundStream.take());
+            startRoundClock(gameState);
+
+            // Use a couple of hints, then enter every answer
+            for (int hint = 0; hint < 2; hint++) {
+                if (gameState.hintEngine.choose(gameState.wordsFound, gameState.revealedMask)) {
+                    gameState.revealedMask[gameState.hintEngine.chosenSlot] |= 1 << gameState.hintEngine.chosenPosition;
+                    gameState.hintEngine.revealed(gameState.hintEngine.chosenSlot, gameState.hintEngine.chosenPosition);
+                }
+            }
+            for (String word : gameState.currentWordSet) {
+                int slot = gameLogic.matchAnswer(gameState, word);
+                if (slot < 0) {
+                    System.out.println("round " + round + ": " + word + " was not accepted");
+                    failed = true;
+                    continue;
+                }
+                gameState.wordsFound[slot] = true;
+                gameLogic.wordFound(gameState, slot);
+            }
+            gameState.roundTick.cancel();
+            gameState.gameTimer.purge();
+
+            if (round % CHECK_EVERY == 0) {
+                long heap = usedHeapAfterGc();
+                int threads = Thread.activeCount();
+                System.out.printf("round %5d: base %d, %.1f MB heap, %d threads, %d rounds queued, %.0f rounds/s%n",
+                        round, gameState.boardShape.baseLength, heap / 1048576.0, threads, roundStream.queued(),
+                        round / ((System.nanoTime() - start) / 1e9));
+
+                // The first checkpoint is the baseline: lexicon, trie and tile caches are built by then
+                if (baselineHeap < 0) {
+                    baselineHeap = heap;
+                    baselineThreads = threads;
+                } else if (heap > baselineHeap + Math.max(HEAP_SLACK, baselineHeap / 4)) {
+                    System.out.println("  heap grew from " + baselineHeap / 1048576 + " MB");
+                    failed = true;
+                } else if (threads > baselineThreads) {
+                    System.out.println("  thread count grew from " + baselineThreads);
+                    failed = true;
+                }
+            }
+        }
+
+        System.out.println(failed ? "FAIL" : "PASS");
+        System.exit(failed ? 1 : 0);
+    }
+
+    // Same clock handling as WordScrambleGame.startGameTimer: one timer thread, a new task per round
+    private static void startRoundClock(GameState gameState) {
+        gameState.roundTick = new TimerTask() {
+            @Override
+            public void run() {
+                if (!gameState.isPaused) {
+                    gameState.timeRemaining--;
+                }
+            }
+        };
+        gameState.gameTimer.scheduleAtFixedRate(gameState.roundTick, 1000, 1000);
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,81 @@
+public class FenwickSampler {
+    // Weighted sampling over weights that change during play - O(log n) per draw and per update
+    public double[] weights;
+    private double[] tree; // 1-based Fenwick (binary indexed) tree of weight prefix sums
+    private int topStep;
+
+    public FenwickSampler(int size) {
+        weights = new double[size];
+        tree = new double[size + 1];
+        topStep = Integer.highestOneBit(Math.max(1, size));
+    }
+
+    public FenwickSampler(double[] initialWeights) {
+        this(initialWeights.length);
+
+        // Linear-time build: push each node's sum up to its parent once
+        for (int i = 0; i < initialWeights.length; i++) {
+            weights[i] = initialWeights[i];
+            tree[i + 1] += initialWeights[i];
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= initialWeights.length) {
+                tree[parent] += tree[i + 1];
+            }
+        }
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public double weight(int index) {
+        return weights[index];
+    }
+
+    public void set(int index, double weight) {
+        double delta = weight - weights[index];
+        weights[index] = weight;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    public double total() {
+        double sum = 0;
+        for (int i = weights.length; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // Index drawn with probability proportional to its weight, -1 if every weight is zero
+    public int sample() {
+        double total = total();
+        if (total <= 0) {
+            return -1;
+        }
+
+        // Walk down the tree to the first index whose prefix sum passes the target
+        double remaining = Math.random() * total;
+        int position = 0;
+        for (int step = topStep; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+
+        // Rounding can land past the last positive weight, step back onto one
+        if (position >= weights.length) {
+            position = weights.length - 1;
+        }
+        while (position > 0 && weights[position] <= 0) {
+            position--;
+        }
+        while (position < weights.length - 1 && weights[position] <= 0) {
+            position++;
+        }
+        return position;
+    }
+}
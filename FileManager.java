@@ -3,21 +3,39 @@ import java.util.*;
 
 public class FileManager {
     public static final String WORD_SETS_FILE = "word_sets.txt";
+    public static final String[] CATEGORY_FILES = {"categories.txt", "categories"};
+    public static final String[] LEXICON_FILES = {"words.txt", "/usr/share/dict/words"};
+
+    // Open a content file from the working directory, falling back to the classpath
+    public BufferedReader openContent(String filename) throws IOException {
+        File file = new File(filename);
+        if (file.exists()) {
+            return new BufferedReader(new FileReader(file));
+        }
+
+        InputStream resource = FileManager.class.getResourceAsStream("/" + filename);
+        if (resource != null) {
+            return new BufferedReader(new InputStreamReader(resource, "UTF-8"));
+        }
+        return null;
+    }
 
     public List<WordSet> loadWordSetsFromFile(String filename) {
         List<WordSet> wordSets = new ArrayList<>();
         try {
-            File file = new File(filename);
-            if (file.exists()) {
-                BufferedReader reader = new BufferedReader(new FileReader(file));
+            BufferedReader reader = openContent(filename);
+            if (reader != null) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     if (!line.trim().isEmpty()) {
                         String[] parts = line.split(",");
-                        if (parts.length == 7) {
-                            String letters = parts[0];
-                            String[] words = new String[6];
-                            System.arraycopy(parts, 1, words, 0, 6);
+                        // Letters, then the words shortest first - any number of them
+                        if (parts.length >= 2) {
+                            String letters = parts[0].trim();
+                            String[] words = new String[parts.length - 1];
+                            for (int i = 1; i < parts.length; i++) {
+                                words[i - 1] = parts[i].trim();
+                            }
                             wordSets.add(new WordSet(letters, words));
                         }
                     }
@@ -30,6 +48,47 @@ public class FileManager {
         return wordSets;
     }
 
+    // Word list for generated boards, 3 to 8 letters
+    public List<String> loadLexicon() {
+        return loadLexicon(BoardShape.MAX_BASE);
+    }
+
+    // One word per line, upper-cased; capitalized proper nouns and anything with punctuation are skipped
+    public List<String> loadLexicon(int maxLength) {
+        List<String> words = new ArrayList<>();
+        try {
+            BufferedReader reader = null;
+            for (String filename : LEXICON_FILES) {
+                reader = openContent(filename);
+                if (reader != null) break;
+            }
+            if (reader == null) {
+                return words;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (word.length() < BoardShape.MIN_WORD || word.length() > maxLength) {
+                    continue;
+                }
+                boolean letters = true;
+                for (int i = 0; i < word.length() && letters; i++) {
+                    char c = word.charAt(i);
+                    letters = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+                }
+                boolean properNoun = Character.isUpperCase(word.charAt(0)) && Character.isLowerCase(word.charAt(1));
+                if (letters && !properNoun) {
+                    words.add(word.toUpperCase());
+                }
+            }
+            reader.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return words;
+    }
+
     public void saveWordSetsToFile(String filename, List<WordSet> wordSets) {
         try {
             PrintWriter writer = new PrintWriter(new FileWriter(filename));
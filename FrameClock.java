@@ -0,0 +1,93 @@
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class FrameClock {
+    // Shared frame clock - one timer thread for every per-frame job in the UI. Plain listeners get
+    // cosmetic frames that yield to input; logic listeners carry gameplay deadlines and are posted as logic.
+    public static final int FRAME_MS = 50;
+
+    public interface FrameListener {
+        void onFrame(long now);
+    }
+
+    public EdtScheduler scheduler;
+    public Timer clockTimer;
+    public TimerTask clockTask;
+    public List<FrameListener> listeners = new CopyOnWriteArrayList<>();
+    public List<FrameListener> logicListeners = new CopyOnWriteArrayList<>();
+
+    public FrameClock(EdtScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    // Set while a frame is queued on the EDT so slow frames are dropped instead of piling up
+    private volatile boolean framePending = false;
+    private volatile boolean logicPending = false;
+
+    public void start() {
+        if (clockTimer != null) {
+            return;
+        }
+
+        clockTimer = new Timer("frame-clock", true);
+        clockTask = new TimerTask() {
+            @Override
+            public void run() {
+                if (!logicPending && !logicListeners.isEmpty()) {
+                    logicPending = true;
+                    scheduler.logic(() -> logicTick());
+                }
+                if (!framePending) {
+                    framePending = true;
+                    scheduler.cosmetic(FrameClock.this, () -> tick());
+                }
+            }
+        };
+        clockTimer.scheduleAtFixedRate(clockTask, 0, FRAME_MS);
+    }
+
+    public void stop() {
+        if (clockTimer != null) {
+            clockTimer.cancel();
+            clockTimer = null;
+            clockTask = null;
+        }
+        framePending = false;
+        logicPending = false;
+    }
+
+    public void addListener(FrameListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void addLogicListener(FrameListener listener) {
+        if (!logicListeners.contains(listener)) {
+            logicListeners.add(listener);
+        }
+    }
+
+    public void removeListener(FrameListener listener) {
+        listeners.remove(listener);
+        logicListeners.remove(listener);
+    }
+
+    private void tick() {
+        framePending = false;
+        long now = System.currentTimeMillis();
+        for (FrameListener listener : listeners) {
+            listener.onFrame(now);
+        }
+    }
+
+    private void logicTick() {
+        logicPending = false;
+        long now = System.currentTimeMillis();
+        for (FrameListener listener : logicListeners) {
+            listener.onFrame(now);
+        }
+    }
+}
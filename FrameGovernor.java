@@ -0,0 +1,144 @@
+import javax.swing.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class FrameGovernor extends WindowAdapter implements FrameClock.FrameListener {
+    // Runs background animations only for the visible screen, and slows or stops them with the window.
+    // The frame clock itself keeps its rate - gameplay deadlines ride on it and must not stall.
+    public static final int FOCUSED_FRAME_MS = FrameClock.FRAME_MS;
+    public static final int UNFOCUSED_FRAME_MS = 250;
+
+    // Screens that show the purple bubble background and those that show the sky scenery
+    public static final Set<String> BUBBLE_SCREENS = new HashSet<>(Arrays.asList(
+            "start", "pause", "menu", "roundComplete", "gameOver", "wordsFound"));
+    public static final Set<String> SCENERY_SCREENS = new HashSet<>(Arrays.asList(
+            "game", "categoryGame", "gridGame"));
+
+    public FrameClock frameClock;
+    public AnimationManager animationManager;
+    public CategoryAnimationManager categoryAnimationManager;
+    public QualityController qualityController;
+    public SceneryCompositor sceneryCompositor; // Null when the background is drawn on the EDT
+
+    public String visibleScreen = "start";
+    public boolean iconified = false;
+    public boolean focused = true;
+    public long lastStep = 0; // When the background last advanced
+
+    // Set while the GameLoop owns stepping and presentation of the background
+    public volatile boolean activeRendering = false;
+    public FrameStats frameStats = new FrameStats("swing");
+
+    public FrameGovernor(FrameClock frameClock, AnimationManager animationManager,
+                         CategoryAnimationManager categoryAnimationManager, QualityController qualityController) {
+        this.frameClock = frameClock;
+        this.animationManager = animationManager;
+        this.categoryAnimationManager = categoryAnimationManager;
+        this.qualityController = qualityController;
+    }
+
+    public void screenShown(String screenName) {
+        visibleScreen = screenName;
+    }
+
+    @Override
+    public void onFrame(long now) {
+        // Fold the previous frame's paint cost in before doing this frame's update
+        qualityController.endFrame();
+        if (activeRendering || iconified) {
+            return;
+        }
+        if (!focused && now - lastStep < UNFOCUSED_FRAME_MS) {
+            return;
+        }
+        lastStep = now;
+
+        if (sceneryCompositor != null) {
+            // The compositor steps and renders off the EDT, only its cost is accounted here
+            qualityController.addCost(sceneryCompositor.takeCost());
+            sceneryCompositor.requestFrame(sceneFor(visibleScreen));
+            frameStats.record(System.nanoTime());
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (BUBBLE_SCREENS.contains(visibleScreen)) {
+            animationManager.stepBubbles();
+        } else if (SCENERY_SCREENS.contains(visibleScreen)) {
+            categoryAnimationManager.step();
+        }
+        qualityController.addCost(System.nanoTime() - start);
+        frameStats.record(System.nanoTime());
+    }
+
+    public static int sceneFor(String screenName) {
+        if (BUBBLE_SCREENS.contains(screenName)) {
+            return SceneryCompositor.SCENE_BUBBLES;
+        } else if (SCENERY_SCREENS.contains(screenName)) {
+            return SceneryCompositor.SCENE_SKY;
+        }
+        return SceneryCompositor.SCENE_NONE;
+    }
+
+    // Active rendering: advance the simulation by whole steps, then paint the visible background
+    // straight away at the given interpolation between the last two states
+    public void renderActiveFrame(int steps, float alpha) {
+        long start = System.nanoTime();
+        if (BUBBLE_SCREENS.contains(visibleScreen)) {
+            for (int i = 0; i < steps; i++) {
+                animationManager.moveBubbles();
+            }
+            animationManager.interpolation = alpha;
+            qualityController.addCost(System.nanoTime() - start);
+            paintNow(animationManager.bubblePanel);
+        } else if (SCENERY_SCREENS.contains(visibleScreen)) {
+            for (int i = 0; i < steps; i++) {
+                categoryAnimationManager.updateAnimations();
+            }
+            categoryAnimationManager.interpolation = alpha;
+            qualityController.addCost(System.nanoTime() - start);
+            for (JPanel panel : categoryAnimationManager.panels) {
+                paintNow(panel);
+            }
+        }
+    }
+
+    private void paintNow(JComponent component) {
+        if (component != null && component.isShowing()) {
+            component.paintImmediately(0, 0, component.getWidth(), component.getHeight());
+        }
+    }
+
+    @Override
+    public void windowIconified(WindowEvent e) {
+        iconified = true;
+        updateRate();
+    }
+
+    @Override
+    public void windowDeiconified(WindowEvent e) {
+        iconified = false;
+        updateRate();
+    }
+
+    @Override
+    public void windowGainedFocus(WindowEvent e) {
+        focused = true;
+        updateRate();
+    }
+
+    @Override
+    public void windowLostFocus(WindowEvent e) {
+        focused = false;
+        updateRate();
+    }
+
+    // The next frame's gap reflects the window change, not a slow frame
+    private void updateRate() {
+        frameStats.skip();
+        lastStep = 0;
+    }
+}
@@ -0,0 +1,55 @@
+public class FrameStats {
+    // Frame-to-frame interval statistics, printed with -Dwordgame.frameStats=true
+    public static final int WINDOW = 300; // Frames per report
+
+    public String name;
+    public boolean enabled = Boolean.getBoolean("wordgame.frameStats");
+
+    private long[] intervals = new long[WINDOW];
+    private int count = 0;
+    private long lastFrame = 0;
+
+    public FrameStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long now) {
+        if (!enabled) {
+            return;
+        }
+        if (lastFrame != 0) {
+            intervals[count++] = now - lastFrame;
+            if (count == WINDOW) {
+                report();
+                count = 0;
+            }
+        }
+        lastFrame = now;
+    }
+
+    // Reset the interval chain, e.g. after the clock was paused
+    public void skip() {
+        lastFrame = 0;
+    }
+
+    private void report() {
+        double sum = 0;
+        long worst = 0;
+        for (int i = 0; i < count; i++) {
+            sum += intervals[i];
+            worst = Math.max(worst, intervals[i]);
+        }
+        double mean = sum / count;
+
+        // Jitter is the standard deviation of the frame interval
+        double variance = 0;
+        for (int i = 0; i < count; i++) {
+            double delta = intervals[i] - mean;
+            variance += delta * delta;
+        }
+        double jitter = Math.sqrt(variance / count);
+
+        System.out.printf("%s frames: mean %.2f ms, jitter %.2f ms, worst %.2f ms over %d frames%n",
+                name, mean / 1e6, jitter / 1e6, worst / 1e6, count);
+    }
+}
@@ -5,6 +5,13 @@ import java.awt.Color;
 
 public class GameLogic {
     public List<WordSet> allWordSets = new ArrayList<>();
+    public List<WordSet> shapedWordSets = new ArrayList<>(); // Loaded sets that fit boardShape
+    public BoardShape boardShape = BoardShape.fromProperty();
+    public BoardGenerator boardGenerator;
+    public volatile boolean crosswordMode = false; // Read by the prefetch thread
+    public static final int LAYOUT_ATTEMPTS = 8;
+    // Blank tiles dealt per board, set with -Dwordgame.blanks=0..2
+    public int blanks = Math.max(0, Math.min(BoardGenerator.MAX_BLANKS, Integer.getInteger("wordgame.blanks", 0)));
     public FileManager fileManager;
     public AnimationManager animationManager;
 
@@ -22,22 +29,169 @@ public class GameLogic {
             allWordSets = fileManager.createDefaultWordSets();
             fileManager.saveWordSetsToFile(FileManager.WORD_SETS_FILE, allWordSets);
         }
+
+        shapedWordSets = new ArrayList<>();
+        for (WordSet wordSet : allWordSets) {
+            if (BoardShape.of(wordSet.words).equals(boardShape)) {
+                shapedWordSets.add(wordSet);
+            }
+        }
+
+        // Boards of other shapes are generated from the lexicon, which hints also draw on
+        List<String> lexicon = fileManager.loadLexicon();
+        for (WordSet wordSet : allWordSets) {
+            Collections.addAll(lexicon, wordSet.words);
+        }
+        boardGenerator = new BoardGenerator(lexicon);
     }
 
     public void generateWordSet(GameState gameState) {
-        // Select a random word set from the loaded sets
+        applyRound(gameState, prepareRound());
+    }
+
+    // Pick and scramble a puzzle without touching game state, safe to call off the EDT
+    public PreparedRound prepareRound() {
+        return prepareRound(boardShape);
+    }
+
+    // A puzzle of another shape, as endless mode ramps up
+    public PreparedRound prepareRound(BoardShape shape) {
+        if (!crosswordMode) {
+            return prepareRound(pickWordSet(shape), null);
+        }
+
+        // Not every set interlocks - keep drawing sets until one does, all within one frame budget
+        long deadline = System.nanoTime() + CrosswordLayout.BUDGET_NANOS;
+        WordSet wordSet = pickWordSet(shape);
+        for (int attempt = 0; attempt < LAYOUT_ATTEMPTS; attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            CrosswordLayout layout = CrosswordLayout.place(wordSet.words, remaining);
+            if (layout != null) {
+                return prepareRound(wordSet, layout);
+            }
+            wordSet = pickWordSet(shape);
+        }
+
+        // Nothing interlocked in time, deal the last set as rows of blocks
+        return prepareRound(wordSet, null);
+    }
+
+    private WordSet pickWordSet(BoardShape shape) {
+        // Hand-made word sets of the configured shape come first
+        List<WordSet> wordSets = shapedWordSets;
+        if (shape.equals(boardShape) && !wordSets.isEmpty()) {
+            return wordSets.get((int)(Math.random() * wordSets.size()));
+        }
+
+        WordSet generated = boardGenerator == null ? null : boardGenerator.generate(shape, blanks);
+        if (generated != null) {
+            return generated;
+        }
+
+        // The lexicon can't fill this shape, play any loaded set instead
         if (!allWordSets.isEmpty()) {
-            WordSet selectedSet = allWordSets.get((int)(Math.random() * allWordSets.size()));
-            gameState.currentWordSet = selectedSet.words.clone();
-            gameState.scrambledLetters = shuffleString(selectedSet.letters);
-        } else {
-            // Fallback to default word set
-            gameState.currentWordSet = new String[]{"HAM", "HAS", "ASH", "MASH", "MASS", "SMASH"};
-            gameState.scrambledLetters = "SHSMA";
+            return allWordSets.get((int)(Math.random() * allWordSets.size()));
+        }
+
+        // Fallback to default word set
+        return new WordSet("SHSMA", new String[]{"HAM", "HAS", "ASH", "MASH", "MASS", "SMASH"});
+    }
+
+    private PreparedRound prepareRound(WordSet wordSet, CrosswordLayout layout) {
+        String[] words = wordSet.words.clone();
+        String letters = wordSet.letters;
+        if (blanks > 0 && letters.indexOf(BoardGenerator.BLANK) < 0) {
+            letters = BoardGenerator.withBlanks(letters, blanks); // A hand-made set, blank some of its letters
+        }
+
+        return buildRound(words, shuffleString(letters), layout);
+    }
+
+    // The Puzzle of the Day as the calendar worked it out - nothing is picked or shuffled here
+    public PreparedRound prepareRound(DailyPuzzle puzzle) {
+        return buildRound(puzzle.words.clone(), puzzle.letters, null);
+    }
+
+    private PreparedRound buildRound(String[] words, String scrambledLetters, CrosswordLayout layout) {
+        PreparedRound round = new PreparedRound(words, scrambledLetters);
+        round.shape = BoardShape.of(words);
+        round.layout = layout;
+        round.answerSlots = answerSlots(words, scrambledLetters);
+        Map<Integer, List<String>> spellable = boardGenerator == null
+                ? new HashMap<>() : boardGenerator.wordsFrom(scrambledLetters);
+        round.hintEngine = new HintEngine(words, spellable);
+        return round;
+    }
+
+    // Everything a player can enter for each answer, mapped to the answer's slots: the word itself and,
+    // for each blank on the board, the word with one more of its letters played as a blank. Matching
+    // an entry is then one lookup, however many blanks there are.
+    public static Map<String, int[]> answerSlots(String[] words, String letters) {
+        int blankCount = 0;
+        for (char c : letters.toCharArray()) {
+            if (c == BoardGenerator.BLANK) {
+                blankCount++;
+            }
+        }
+
+        Map<String, int[]> slots = new HashMap<>();
+        for (int slot = 0; slot < words.length; slot++) {
+            char[] entry = words[slot].toUpperCase().toCharArray();
+            addBlankEntries(slots, entry, 0, blankCount, slot);
+        }
+        return slots;
+    }
+
+    private static void addBlankEntries(Map<String, int[]> slots, char[] entry, int from, int blanksLeft, int slot) {
+        String key = new String(entry);
+        int[] existing = slots.get(key);
+        if (existing == null) {
+            slots.put(key, new int[]{slot});
+        } else if (existing[existing.length - 1] != slot) {
+            int[] more = Arrays.copyOf(existing, existing.length + 1);
+            more[existing.length] = slot;
+            slots.put(key, more);
+        }
+        if (blanksLeft == 0) {
+            return;
+        }
+        for (int i = from; i < entry.length; i++) {
+            char letter = entry[i];
+            entry[i] = BoardGenerator.BLANK;
+            addBlankEntries(slots, entry, i + 1, blanksLeft - 1, slot);
+            entry[i] = letter;
         }
+    }
 
-        // Reset found words
-        gameState.wordsFound = new boolean[6];
+    // The first answer not yet found that the entry spells, or -1
+    public int matchAnswer(GameState gameState, String input) {
+        int[] slots = gameState.answerSlots.get(input.toUpperCase());
+        if (slots == null) {
+            return -1;
+        }
+        for (int slot : slots) {
+            if (!gameState.wordsFound[slot]) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    public void applyRound(GameState gameState, PreparedRound round) {
+        gameState.currentWordSet = round.words;
+        gameState.scrambledLetters = round.scrambledLetters;
+
+        gameState.boardShape = round.shape;
+        gameState.crosswordLayout = round.layout;
+        gameState.answerSlots = round.answerSlots;
+
+        // Reset found words and hints
+        gameState.wordsFound = new boolean[round.words.length];
+        gameState.revealedMask = new int[round.words.length];
+        gameState.hintEngine = round.hintEngine;
     }
 
     public String shuffleString(String input) {
@@ -54,32 +208,36 @@ public class GameLogic {
         return new String(characters);
     }
 
-    public boolean checkWordAutomatically(GameState gameState, JLabel[][] threeLetterLabels,
-                                          JLabel[][] fourLetterLabels, JLabel[] fiveLetterLabels,
+    // The same shuffle drawing from a seeded generator, for puzzles everyone must get alike
+    public static String shuffleString(String input, Random random) {
+        char[] characters = input.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            int randomIndex = random.nextInt(characters.length);
+            char temp = characters[i];
+            characters[i] = characters[randomIndex];
+            characters[randomIndex] = temp;
+        }
+        return new String(characters);
+    }
+
+    public boolean checkWordAutomatically(GameState gameState, JLabel[][] wordCells,
                                           JLabel scoreLabel, WordScrambleGame game) {
         if (gameState.currentInputWord.length() < 3) {
             return false; // Need at least 3 letters
         }
 
         // Check if the word matches any of the target words
-        boolean wordFound = false;
-        int wordIndex = -1;
-
-        for (int i = 0; i < gameState.currentWordSet.length; i++) {
-            if (gameState.currentWordSet[i].equalsIgnoreCase(gameState.currentInputWord) && !gameState.wordsFound[i]) {
-                wordFound = true;
-                wordIndex = i;
-                break;
-            }
-        }
+        int wordIndex = matchAnswer(gameState, gameState.currentInputWord);
+        boolean wordFound = wordIndex >= 0;
 
         if (wordFound) {
             gameState.wordsFound[wordIndex] = true;
+            wordFound(gameState, wordIndex);
             gameState.score += 30; // Fixed 30 points per word
             scoreLabel.setText("Score: " + gameState.score);
 
             // Place the word in the appropriate grid
-            placeWordInGrid(gameState.currentInputWord, wordIndex, threeLetterLabels, fourLetterLabels, fiveLetterLabels);
+            placeWordInGrid(gameState.currentWordSet[wordIndex], wordIndex, wordCells);
 
             // Check how many words have been found
             int wordsFoundCount = 0;
@@ -89,7 +247,7 @@ public class GameLogic {
 
             // Auto-reveal a letter after 2 words found
             if (wordsFoundCount == 2) {
-                autoRevealLetter(gameState, threeLetterLabels, fourLetterLabels, fiveLetterLabels, game);
+                autoRevealLetter(gameState, wordCells, game);
             }
 
             // Check if all words are found
@@ -106,124 +264,81 @@ public class GameLogic {
         return false;
     }
 
-    public void placeWordInGrid(String word, int wordIndex, JLabel[][] threeLetterLabels,
-                                JLabel[][] fourLetterLabels, JLabel[] fiveLetterLabels) {
-        if (wordIndex < 3) {
-            // 3-letter word
-            int row = wordIndex;
-            for (int j = 0; j < 3; j++) {
-                if (j < word.length()) {
-                    threeLetterLabels[row][j].setText(String.valueOf(word.charAt(j)));
-                    threeLetterLabels[row][j].setOpaque(true);
-                    threeLetterLabels[row][j].setBackground(new Color(241, 196, 15));
-                    animationManager.animateGridCell(threeLetterLabels[row][j]);
-                }
-            }
-        } else if (wordIndex < 5) {
-            // 4-letter word
-            int row = wordIndex - 3;
-            for (int j = 0; j < 4; j++) {
-                if (j < word.length()) {
-                    fourLetterLabels[row][j].setText(String.valueOf(word.charAt(j)));
-                    fourLetterLabels[row][j].setOpaque(true);
-                    fourLetterLabels[row][j].setBackground(new Color(241, 196, 15));
-                    animationManager.animateGridCell(fourLetterLabels[row][j]);
-                }
+    // In a crossword a found word also shows letters of the words it crosses, so hints don't spend those again
+    public void wordFound(GameState gameState, int wordIndex) {
+        gameState.hintEngine.wordFound(wordIndex);
+        CrosswordLayout layout = gameState.crosswordLayout;
+        if (layout == null) {
+            return;
+        }
+
+        String[] words = gameState.currentWordSet;
+        for (int other = 0; other < words.length; other++) {
+            if (other == wordIndex || gameState.wordsFound[other]) {
+                continue;
             }
-        } else {
-            // 5-letter word
-            for (int j = 0; j < 5; j++) {
-                if (j < word.length()) {
-                    fiveLetterLabels[j].setText(String.valueOf(word.charAt(j)));
-                    fiveLetterLabels[j].setOpaque(true);
-                    fiveLetterLabels[j].setBackground(new Color(241, 196, 15));
-                    animationManager.animateGridCell(fiveLetterLabels[j]);
+            for (int position = 0; position < words[other].length(); position++) {
+                boolean shown = (gameState.revealedMask[other] & (1 << position)) != 0;
+                if (!shown && layout.covers(wordIndex, layout.row(other, position), layout.col(other, position))) {
+                    gameState.revealedMask[other] |= 1 << position;
+                    gameState.hintEngine.revealed(other, position);
                 }
             }
         }
     }
 
-    public void autoRevealLetter(GameState gameState, JLabel[][] threeLetterLabels,
-                                 JLabel[][] fourLetterLabels, JLabel[] fiveLetterLabels,
-                                 WordScrambleGame game) {
-        // Find words that haven't been found yet
-        List<Integer> remainingWordIndices = new ArrayList<>();
-        for (int i = 0; i < gameState.wordsFound.length; i++) {
-            if (!gameState.wordsFound[i]) {
-                remainingWordIndices.add(i);
-            }
+    // wordCells holds one row of grid labels per word, in currentWordSet order
+    public void placeWordInGrid(String word, int wordIndex, JLabel[][] wordCells) {
+        for (int j = 0; j < word.length(); j++) {
+            JLabel cell = wordCells[wordIndex][j];
+            cell.setText(String.valueOf(word.charAt(j)));
+            cell.setOpaque(true);
+            cell.setBackground(new Color(241, 196, 15));
+            animationManager.animateGridCell(cell);
         }
+    }
 
-        if (!remainingWordIndices.isEmpty()) {
-            // Get a random word from the remaining words
-            int randomIndex = remainingWordIndices.get((int)(Math.random() * remainingWordIndices.size()));
-            String word = gameState.currentWordSet[randomIndex];
+    public void autoRevealLetter(GameState gameState, JLabel[][] wordCells, WordScrambleGame game) {
+        if (revealHint(gameState, wordCells) >= 0) {
+            // Show notification
+            game.uiManager.showAutoClosingMessage(
+                    "Bonus! A letter has been revealed for finding 2 words!", "Auto Reveal", 2000);
+        }
+    }
 
-            // Reveal one letter in the appropriate grid
-            revealLetterInGrid(word, randomIndex, threeLetterLabels, fourLetterLabels, fiveLetterLabels);
+    // Reveal the hidden letter that narrows down the remaining words the most, chosen from the
+    // model alone. Returns the word it was revealed in, or -1 if there was nothing left to reveal.
+    public int revealHint(GameState gameState, JLabel[][] wordCells) {
+        HintEngine hintEngine = gameState.hintEngine;
+        if (hintEngine == null || !hintEngine.choose(gameState.wordsFound, gameState.revealedMask)) {
+            return -1;
+        }
 
-            // Show notification
-            JOptionPane.showMessageDialog(game,
-                    "Bonus! A letter has been revealed for finding 2 words!",
-                    "Auto Reveal", JOptionPane.INFORMATION_MESSAGE);
-        }
-    }
-
-    public void revealLetterInGrid(String word, int wordIndex, JLabel[][] threeLetterLabels,
-                                   JLabel[][] fourLetterLabels, JLabel[] fiveLetterLabels) {
-        if (wordIndex < 3) {
-            // 3-letter word
-            int row = wordIndex;
-            // Find all empty positions
-            List<Integer> emptyPositions = new ArrayList<>();
-            for (int j = 0; j < 3; j++) {
-                if (threeLetterLabels[row][j].getText().isEmpty()) {
-                    emptyPositions.add(j);
-                }
-            }
-            // Reveal a random empty position
-            if (!emptyPositions.isEmpty()) {
-                int randomPos = emptyPositions.get((int)(Math.random() * emptyPositions.size()));
-                threeLetterLabels[row][randomPos].setText(String.valueOf(word.charAt(randomPos)));
-                threeLetterLabels[row][randomPos].setOpaque(true);
-                threeLetterLabels[row][randomPos].setBackground(new Color(52, 152, 219)); // Blue for hint
-                animationManager.animateGridCell(threeLetterLabels[row][randomPos]);
-            }
-        } else if (wordIndex < 5) {
-            // 4-letter word
-            int row = wordIndex - 3;
-            // Find all empty positions
-            List<Integer> emptyPositions = new ArrayList<>();
-            for (int j = 0; j < 4; j++) {
-                if (fourLetterLabels[row][j].getText().isEmpty()) {
-                    emptyPositions.add(j);
-                }
-            }
-            // Reveal a random empty position
-            if (!emptyPositions.isEmpty()) {
-                int randomPos = emptyPositions.get((int)(Math.random() * emptyPositions.size()));
-                fourLetterLabels[row][randomPos].setText(String.valueOf(word.charAt(randomPos)));
-                fourLetterLabels[row][randomPos].setOpaque(true);
-                fourLetterLabels[row][randomPos].setBackground(new Color(52, 152, 219)); // Blue for hint
-                animationManager.animateGridCell(fourLetterLabels[row][randomPos]);
-            }
-        } else {
-            // 5-letter word
-            // Find all empty positions
-            List<Integer> emptyPositions = new ArrayList<>();
-            for (int j = 0; j < 5; j++) {
-                if (fiveLetterLabels[j].getText().isEmpty()) {
-                    emptyPositions.add(j);
+        int wordIndex = hintEngine.chosenSlot;
+        int position = hintEngine.chosenPosition;
+        gameState.revealedMask[wordIndex] |= 1 << position;
+        hintEngine.revealed(wordIndex, position);
+
+        // In a crossword the letter also fills the word crossing it there, whose mask has to know
+        CrosswordLayout layout = gameState.crosswordLayout;
+        if (layout != null) {
+            int row = layout.row(wordIndex, position);
+            int col = layout.col(wordIndex, position);
+            for (int other = 0; other < gameState.currentWordSet.length; other++) {
+                if (other == wordIndex || gameState.wordsFound[other] || !layout.covers(other, row, col)) {
+                    continue;
                 }
-            }
-            // Reveal a random empty position
-            if (!emptyPositions.isEmpty()) {
-                int randomPos = emptyPositions.get((int)(Math.random() * emptyPositions.size()));
-                fiveLetterLabels[randomPos].setText(String.valueOf(word.charAt(randomPos)));
-                fiveLetterLabels[randomPos].setOpaque(true);
-                fiveLetterLabels[randomPos].setBackground(new Color(52, 152, 219)); // Blue for hint
-                animationManager.animateGridCell(fiveLetterLabels[randomPos]);
+                int crossing = layout.slotAcross[other] ? col - layout.slotCol[other] : row - layout.slotRow[other];
+                gameState.revealedMask[other] |= 1 << crossing;
+                hintEngine.revealed(other, crossing);
             }
         }
+
+        JLabel cell = wordCells[wordIndex][position];
+        cell.setText(String.valueOf(gameState.currentWordSet[wordIndex].charAt(position)));
+        cell.setOpaque(true);
+        cell.setBackground(new Color(52, 152, 219)); // Blue for hint
+        animationManager.animateGridCell(cell);
+        return wordIndex;
     }
 }
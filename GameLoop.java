@@ -0,0 +1,98 @@
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLoop implements Runnable {
+    // Active rendering, enabled with -Dwordgame.render=active
+    // The simulation advances in fixed steps while frames are drawn at the display rate,
+    // interpolating between the last two simulation states
+    public static final long STEP_NANOS = FrameClock.FRAME_MS * 1_000_000L; // Entity speeds are tuned for 50ms steps
+    public static final long FRAME_NANOS = 1_000_000_000L / 60;
+    public static final long UNFOCUSED_FRAME_NANOS = FrameGovernor.UNFOCUSED_FRAME_MS * 1_000_000L;
+    public static final long ICONIFIED_WAIT_NANOS = 100_000_000L;
+    public static final int MAX_STEPS_PER_FRAME = 5; // Drop the backlog after a long stall instead of racing to catch up
+
+    public FrameGovernor frameGovernor;
+    public FrameStats frameStats = new FrameStats("active");
+    public Thread loopThread;
+    public volatile boolean running = false;
+
+    public static boolean enabled() {
+        return "active".equals(System.getProperty("wordgame.render"));
+    }
+
+    public GameLoop(FrameGovernor frameGovernor) {
+        this.frameGovernor = frameGovernor;
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        frameGovernor.activeRendering = true;
+        loopThread = new Thread(this, "game-loop");
+        loopThread.setDaemon(true);
+        loopThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        frameGovernor.activeRendering = false;
+        if (loopThread != null) {
+            loopThread.interrupt();
+            loopThread = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long nextFrame = previous;
+        long accumulator = 0;
+
+        while (running) {
+            if (frameGovernor.iconified) {
+                // Nothing is visible - wait without building up simulation time
+                LockSupport.parkNanos(ICONIFIED_WAIT_NANOS);
+                previous = System.nanoTime();
+                nextFrame = previous;
+                accumulator = 0;
+                continue;
+            }
+
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            int steps = 0;
+            while (accumulator >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+                accumulator -= STEP_NANOS;
+                steps++;
+            }
+            if (steps == MAX_STEPS_PER_FRAME) {
+                accumulator = 0;
+            }
+
+            int frameSteps = steps;
+            float alpha = accumulator / (float) STEP_NANOS;
+            try {
+                SwingUtilities.invokeAndWait(() -> frameGovernor.renderActiveFrame(frameSteps, alpha));
+            } catch (InterruptedException e) {
+                return;
+            } catch (InvocationTargetException e) {
+                e.printStackTrace();
+            }
+            frameStats.record(now);
+
+            // Sleep until the next frame is due, resynchronising if we have fallen behind
+            nextFrame += frameGovernor.focused ? FRAME_NANOS : UNFOCUSED_FRAME_NANOS;
+            long wait = nextFrame - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                nextFrame = System.nanoTime();
+            }
+        }
+    }
+}
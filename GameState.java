@@ -5,13 +5,22 @@ public class GameState {
     public int currentRound = 1;
     public int score = 0;
     public int timeRemaining = 180; // 5 minutes in seconds
+    public int timeLimit = 180; // What timeRemaining starts each round at
+    public boolean endless = false; // Rounds keep coming until time runs out, see RoundStream
+    public DailyPuzzle daily; // Set while playing the Puzzle of the Day: one scramble round, then its category run
     public boolean isPaused = false;
     public boolean isSoundOn = true;
     public boolean isMusicOn = true;
-    public String[] currentWordSet = new String[6]; // 3 three-letter, 2 four-letter, 1 five-letter
+    public BoardShape boardShape = BoardShape.classic();
+    public String[] currentWordSet = new String[6]; // Shortest words first, as many as boardShape has slots
     public boolean[] wordsFound = new boolean[6];
-    public String scrambledLetters = "";
-    public Timer gameTimer;
+    public int[] revealedMask = new int[6]; // Bit per position of each word that a hint has shown
+    public HintEngine hintEngine;
+    public CrosswordLayout crosswordLayout; // Set when the round's words interlock, null for rows of blocks
+    public String scrambledLetters = ""; // BoardGenerator.BLANK for a blank tile
+    public Map<String, int[]> answerSlots = new HashMap<>(); // What can be entered for each answer, see GameLogic.answerSlots
+    public Timer gameTimer; // One clock thread for the whole game, each round schedules a new roundTick on it
+    public TimerTask roundTick;
     public int healthPercentage = 100;
     public String currentInputWord = "";
     public int hintsUsed = 0;
@@ -25,21 +34,27 @@ public class GameState {
     public void resetForNewGame() {
         currentRound = 1;
         score = 0;
-        timeRemaining = 180;
+        timeLimit = endless ? RoundStream.timeLimitFor(1) : 180;
+        timeRemaining = timeLimit;
         isPaused = false;
         healthPercentage = 100;
         hintsUsed = 0;
         currentInputWord = "";
-        wordsFound = new boolean[6];
+        wordsFound = new boolean[currentWordSet.length];
+        revealedMask = new int[currentWordSet.length];
         currentGameState = "playing";
     }
 
     public void resetForNewRound() {
-        timeRemaining = 180;
+        if (endless) {
+            timeLimit = RoundStream.timeLimitFor(currentRound);
+        }
+        timeRemaining = timeLimit;
         healthPercentage = 100;
         hintsUsed = 0; // Reset hint counter for new round
         currentInputWord = "";
-        wordsFound = new boolean[6];
+        wordsFound = new boolean[currentWordSet.length];
+        revealedMask = new int[currentWordSet.length];
         currentGameState = "playing";
     }
 
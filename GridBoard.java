@@ -0,0 +1,14 @@
+import java.util.Set;
+
+public class GridBoard {
+    public int size;
+    public char[] cells; // Row by row, Q stands for QU
+    public int wordCount;
+    public Set<String> words;
+
+    public GridBoard(int size, char[] cells, int wordCount) {
+        this.size = size;
+        this.cells = cells;
+        this.wordCount = wordCount;
+    }
+}
@@ -0,0 +1,108 @@
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GridBoardGenerator {
+    // Rolls letter grids and solves each one, keeping the first that holds enough words.
+    // Candidates are rolled and solved on every core at once, on the prefetch thread, so there is no time limit.
+    // A lexicon that gives no board in MAX_CANDIDATES rolls can't fill a grid - generation fails then.
+    public static final int MAX_CANDIDATES = 1000000;
+
+    // Letter dice: 16 for a 4x4 grid, 25 for 5x5
+    public static final String[] DICE_4 = {
+            "AAEEGN", "ABBJOO", "ACHOPS", "AFFKPS", "AOOTTW", "CIMOTU", "DEILRX", "DELRVY",
+            "DISTTY", "EEGHNW", "EEINSU", "EHRTVW", "EIOSST", "ELRTTY", "HIMNUQ", "HLNNRZ"
+    };
+    public static final String[] DICE_5 = {
+            "AAAFRS", "AAEEEE", "AAFIRS", "ADENNN", "AEEEEM", "AEEGMU", "AEGMNN", "AFIRSY", "BJKQXZ",
+            "CCENST", "CEIILT", "CEILPT", "CEIPST", "DDHNOT", "DHHLOR", "DHLNOR", "DHLNOR", "EIIITT",
+            "EMOTTT", "ENSSSU", "FIPRSY", "GORRVW", "IPRRRY", "NOOTUW", "OOOTTU"
+    };
+
+    public GridTrie trie;
+    public int threads = Runtime.getRuntime().availableProcessors();
+    private ExecutorService solvers;
+
+    // Boards rolled and solved by the last generate()
+    public int candidatesSolved = 0;
+
+    public GridBoardGenerator(GridTrie trie) {
+        this.trie = trie;
+        solvers = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "grid-solver-" + (count++));
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    // A board with at least minWords words on it, never fewer
+    public GridBoard generate(int size, int minWords) {
+        AtomicInteger rolled = new AtomicInteger();
+        AtomicReference<GridBoard> found = new AtomicReference<>();
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            workers.add(solvers.submit(() -> {
+                GridSolver solver = new GridSolver(trie);
+                char[] board = new char[size * size];
+                // Stop once any worker has a board with enough words
+                while (found.get() == null && rolled.getAndIncrement() < MAX_CANDIDATES) {
+                    roll(board, size);
+                    int count = solver.solve(board, size, null);
+                    if (count >= minWords) {
+                        found.compareAndSet(null, new GridBoard(size, board.clone(), count));
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while generating a grid", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A grid solver failed", e.getCause());
+            }
+        }
+        candidatesSolved = Math.min(rolled.get(), MAX_CANDIDATES);
+
+        GridBoard board = found.get();
+        if (board == null) {
+            throw new IllegalStateException("No " + size + "x" + size + " grid with " + minWords + " words turned up in "
+                    + MAX_CANDIDATES + " rolls - the word list is too small. Put a dictionary in words.txt.");
+        }
+
+        // Solve the chosen board once more to list its words
+        List<String> words = new ArrayList<>();
+        new GridSolver(trie).solve(board.cells, size, words);
+        Collections.sort(words);
+        board.words = new LinkedHashSet<>(words);
+        return board;
+    }
+
+    // Shake the dice into the grid: each die lands in a random cell showing a random face
+    public static void roll(char[] board, int size) {
+        String[] dice = size == 5 ? DICE_5 : DICE_4;
+        // Per-thread generator - Math.random() shares one, which would serialize the workers
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] order = new int[board.length];
+        for (int i = 0; i < order.length; i++) {
+            int j = random.nextInt(i + 1);
+            order[i] = order[j];
+            order[j] = i;
+        }
+        for (int cell = 0; cell < board.length; cell++) {
+            String die = dice[order[cell] % dice.length];
+            board[cell] = die.charAt(random.nextInt(die.length()));
+        }
+    }
+}
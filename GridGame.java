@@ -0,0 +1,221 @@
+import javax.swing.SwingUtilities;
+import java.util.*;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class GridGame {
+    // Word grid mode: trace words through adjacent letters of a 4x4 or 5x5 grid before time runs out
+    public static final int TIME_LIMIT = 180;
+    public static final int MAX_WORD = 16;
+    public static final int MIN_WORDS_4 = 40; // A rolled grid is only dealt if it holds this many words
+    public static final int MIN_WORDS_5 = 80;
+
+    public WordScrambleGame mainGame;
+
+    // Same timer model as the word scramble game: timeRemaining, score and a task on the shared round clock
+    public GameState gameState = new GameState();
+    public int size = 4;
+    public GridBoard board;
+    public List<Integer> path = new ArrayList<>(); // Cells of the word being traced
+    public Set<String> foundWords = new LinkedHashSet<>();
+
+    // Built from the lexicon the first time the mode starts, then boards are prepared one ahead
+    public GridBoardGenerator generator;
+    public CompletableFuture<GridBoard> nextBoard;
+    public int nextBoardSize;
+
+    public GridGame(WordScrambleGame mainGame) {
+        this.mainGame = mainGame;
+    }
+
+    // Deal the prefetched board at once if it is ready; otherwise the screen shows it is loading
+    // until the prefetch thread has one, and the EDT never waits on it
+    public void startGame(int gridSize) {
+        stop();
+        size = gridSize;
+        path.clear();
+        foundWords.clear();
+        gameState.score = 0;
+        gameState.timeRemaining = TIME_LIMIT;
+        gameState.isPaused = false;
+        gameState.currentGameState = "loading";
+
+        if (nextBoard == null || nextBoardSize != gridSize) {
+            prefetchBoard(gridSize);
+        }
+        CompletableFuture<GridBoard> pending = nextBoard;
+        if (pending.isDone()) {
+            boardReady(pending);
+        } else {
+            mainGame.uiManager.showGridGameLoading();
+            pending.whenComplete((prepared, error) -> SwingUtilities.invokeLater(() -> boardReady(pending)));
+        }
+    }
+
+    private void boardReady(CompletableFuture<GridBoard> pending) {
+        if (pending != nextBoard || !"loading".equals(gameState.currentGameState)) {
+            return; // Left the grid or asked for the other size while it was loading
+        }
+
+        try {
+            board = pending.join();
+        } catch (CompletionException e) {
+            nextBoard = null; // Try again next time
+            gameState.currentGameState = "failed";
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            cause.printStackTrace();
+            mainGame.uiManager.showGridGameError(cause.getMessage());
+            return;
+        }
+
+        prefetchBoard(size);
+        gameState.currentGameState = "playing";
+        mainGame.uiManager.updateGridGameTiles();
+        mainGame.uiManager.updateGridGameDisplay();
+        startTimer();
+    }
+
+    public void quit() {
+        stop();
+        gameState.currentGameState = "menu";
+    }
+
+    public void stop() {
+        if (gameState.roundTick != null) {
+            gameState.roundTick.cancel();
+            gameState.roundTick = null;
+            gameState.gameTimer.purge();
+        }
+    }
+
+    public void prefetchBoard(int gridSize) {
+        nextBoardSize = gridSize;
+        nextBoard = CompletableFuture.supplyAsync(() -> {
+            ensureGenerator();
+            GridBoard prepared = generator.generate(gridSize, gridSize == 5 ? MIN_WORDS_5 : MIN_WORDS_4);
+
+            // Render the board's tiles now so dealing it is only a repaint
+            for (char c : prepared.cells) {
+                mainGame.uiManager.skinAtlas.tile(SkinAtlas.TileStyle.LETTER_TILE, c);
+            }
+            return prepared;
+        }, mainGame.roundPrefetcher);
+    }
+
+    // The word lists and categories make up the lexicon when no dictionary file is installed
+    private synchronized void ensureGenerator() {
+        if (generator != null) {
+            return;
+        }
+        mainGame.wordSetsLoading.join();
+        mainGame.categoriesLoading.join();
+
+        List<String> lexicon = mainGame.fileManager.loadLexicon(MAX_WORD);
+        for (WordSet wordSet : mainGame.gameLogic.allWordSets) {
+            Collections.addAll(lexicon, wordSet.words);
+        }
+        for (List<String> words : mainGame.categoryGame.categories.values()) {
+            lexicon.addAll(words);
+        }
+        generator = new GridBoardGenerator(new GridTrie(lexicon, MAX_WORD));
+    }
+
+    public void startTimer() {
+        stop();
+        gameState.gameTimer = mainGame.roundClock(); // The scramble game's clock thread, not one of our own
+        gameState.roundTick = new TimerTask() {
+            @Override
+            public void run() {
+                if (!gameState.isPaused) {
+                    gameState.timeRemaining--;
+                    mainGame.uiManager.edtScheduler.logic(() -> {
+                        mainGame.uiManager.updateGridGameTimer();
+                        if (gameState.timeRemaining <= 0) {
+                            timeUp();
+                        }
+                    });
+                }
+            }
+        };
+        gameState.gameTimer.scheduleAtFixedRate(gameState.roundTick, 1000, 1000);
+    }
+
+    // Click on a cell: extend the word if it is next to the last letter, or step back off the last letter
+    public void selectCell(int cell) {
+        if (!"playing".equals(gameState.currentGameState)) {
+            return;
+        }
+        if (!path.isEmpty() && path.get(path.size() - 1) == cell) {
+            path.remove(path.size() - 1);
+        } else if (path.isEmpty() || (!path.contains(cell) && GridSolver.adjacent(path.get(path.size() - 1), cell, size))) {
+            path.add(cell);
+        } else {
+            return;
+        }
+        mainGame.uiManager.updateGridGamePath();
+    }
+
+    public String currentWord() {
+        StringBuilder word = new StringBuilder();
+        for (int cell : path) {
+            char c = board.cells[cell];
+            word.append(c);
+            if (c == 'Q') {
+                word.append('U');
+            }
+        }
+        return word.toString();
+    }
+
+    public void submitWord() {
+        if (!"playing".equals(gameState.currentGameState) || path.isEmpty()) {
+            return;
+        }
+        String word = currentWord();
+        path.clear();
+
+        if (word.length() < GridSolver.MIN_WORD) {
+            mainGame.uiManager.showAutoClosingMessage("Words need at least 3 letters.", "Too Short", 1200);
+        } else if (foundWords.contains(word)) {
+            mainGame.uiManager.showAutoClosingMessage(word + " is already on your list.", "Already Found", 1200);
+        } else if (!board.words.contains(word)) {
+            mainGame.uiManager.showAutoClosingMessage(word + " isn't in the word list.", "Not a Word", 1200);
+        } else {
+            foundWords.add(word);
+            gameState.score += points(word);
+        }
+        mainGame.uiManager.updateGridGameDisplay();
+    }
+
+    public void clearPath() {
+        path.clear();
+        mainGame.uiManager.updateGridGamePath();
+    }
+
+    // Longer words are worth more: 10 for 3-4 letters up to 110 for 8 or more
+    public static int points(String word) {
+        switch (word.length()) {
+            case 3:
+            case 4:
+                return 10;
+            case 5:
+                return 20;
+            case 6:
+                return 30;
+            case 7:
+                return 50;
+            default:
+                return 110;
+        }
+    }
+
+    public void timeUp() {
+        stop();
+        gameState.currentGameState = "gameOver";
+        path.clear();
+        mainGame.uiManager.showGridGameResults();
+    }
+}
@@ -0,0 +1,104 @@
+import java.util.*;
+import java.util.List;
+
+public class GridSolver {
+    // Finds every lexicon word on a letter grid: a depth-first walk over adjacent cells that follows
+    // the lexicon trie alongside, so a path stops as soon as no word starts with its letters.
+    // The trie is shared and read-only; each thread solving boards needs its own GridSolver.
+    public static final int MIN_WORD = 3;
+
+    private static final Map<Integer, int[][]> NEIGHBORS = new HashMap<>();
+
+    private GridTrie trie;
+    private int[] seenStamp; // Trie nodes whose word was already counted this solve
+    private int stamp = 0;
+
+    // Per solve
+    private char[] board;
+    private int[][] neighbors;
+    private List<String> found;
+    private int count;
+
+    public GridSolver(GridTrie trie) {
+        this.trie = trie;
+        seenStamp = new int[trie.nodeCount];
+    }
+
+    // Number of distinct words on the board, adding them to words if it isn't null.
+    // board holds size x size letters, row by row; a Q cell reads as QU.
+    public int solve(char[] board, int size, List<String> words) {
+        this.board = board;
+        neighbors = neighbors(size);
+        found = words;
+        count = 0;
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            stamp = 1;
+        }
+
+        for (int cell = 0; cell < board.length; cell++) {
+            int node = trie.child(GridTrie.ROOT, board[cell]);
+            if (node >= 0) {
+                search(cell, node, 1 << cell);
+            }
+        }
+        return count;
+    }
+
+    private void search(int cell, int node, int visited) {
+        if (trie.words[node] != null && seenStamp[node] != stamp) {
+            seenStamp[node] = stamp;
+            count++;
+            if (found != null) {
+                found.add(trie.words[node]);
+            }
+        }
+        if (trie.childMask[node] == 0) {
+            return;
+        }
+
+        for (int next : neighbors[cell]) {
+            if ((visited & (1 << next)) == 0) {
+                int child = trie.child(node, board[next]);
+                if (child >= 0) {
+                    search(next, child, visited | (1 << next));
+                }
+            }
+        }
+    }
+
+    // Adjacent cells, diagonals included, for each cell of a size x size grid
+    public static synchronized int[][] neighbors(int size) {
+        int[][] neighbors = NEIGHBORS.get(size);
+        if (neighbors != null) {
+            return neighbors;
+        }
+
+        neighbors = new int[size * size][];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                List<Integer> adjacent = new ArrayList<>();
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        int r = row + dr;
+                        int c = col + dc;
+                        if ((dr != 0 || dc != 0) && r >= 0 && r < size && c >= 0 && c < size) {
+                            adjacent.add(r * size + c);
+                        }
+                    }
+                }
+                int[] cells = new int[adjacent.size()];
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = adjacent.get(i);
+                }
+                neighbors[row * size + col] = cells;
+            }
+        }
+        NEIGHBORS.put(size, neighbors);
+        return neighbors;
+    }
+
+    public static boolean adjacent(int a, int b, int size) {
+        return a != b && Math.abs(a / size - b / size) <= 1 && Math.abs(a % size - b % size) <= 1;
+    }
+}
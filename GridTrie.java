@@ -0,0 +1,106 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class GridTrie {
+    // The lexicon as a compact trie: each node's children sit together in letter order, found
+    // from a 26-bit mask of which letters follow and the index of the first child. For the grid,
+    // QU is stored as a single Q step to match the Qu face on the dice.
+    public static final int ROOT = 0;
+
+    public int[] childMask;
+    public int[] firstChild;
+    public String[] words; // Set on nodes where a word ends
+    public int nodeCount;
+
+    public GridTrie(Collection<String> lexicon, int maxLength) {
+        this(lexicon, maxLength, true);
+    }
+
+    public GridTrie(Collection<String> lexicon, int maxLength, boolean quAsOne) {
+        // Build with linked nodes first, then lay them out breadth first
+        TrieNode root = new TrieNode();
+        for (String word : lexicon) {
+            String upper = word.toUpperCase();
+            String path = gridPath(upper, quAsOne);
+            if (path == null || upper.length() < GridSolver.MIN_WORD || upper.length() > maxLength) {
+                continue;
+            }
+            TrieNode node = root;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.childOrCreate(path.charAt(i));
+            }
+            node.word = upper;
+        }
+
+        List<TrieNode> order = new ArrayList<>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            TrieNode node = order.get(i);
+            sortChildren(node);
+            for (int c = 0; c < node.childCount; c++) {
+                order.add(node.children[c]);
+            }
+        }
+
+        nodeCount = order.size();
+        childMask = new int[nodeCount];
+        firstChild = new int[nodeCount];
+        words = new String[nodeCount];
+        int next = 1;
+        for (int i = 0; i < nodeCount; i++) {
+            TrieNode node = order.get(i);
+            words[i] = node.word;
+            firstChild[i] = next;
+            for (int c = 0; c < node.childCount; c++) {
+                childMask[i] |= 1 << (node.keys[c] - 'A');
+            }
+            next += node.childCount;
+        }
+    }
+
+    // Child of node along letter, or -1
+    public int child(int node, char letter) {
+        int bit = 1 << (letter - 'A');
+        int mask = childMask[node];
+        if ((mask & bit) == 0) {
+            return -1;
+        }
+        return firstChild[node] + Integer.bitCount(mask & (bit - 1));
+    }
+
+    // Letters as walked on the grid, or null if the word can't be spelled there
+    private static String gridPath(String word, boolean quAsOne) {
+        StringBuilder path = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return null;
+            }
+            path.append(c);
+            if (c == 'Q' && quAsOne) {
+                if (i + 1 >= word.length() || word.charAt(i + 1) != 'U') {
+                    return null;
+                }
+                i++;
+            }
+        }
+        return path.toString();
+    }
+
+    private static void sortChildren(TrieNode node) {
+        // Insertion sort, a node has at most 26 children
+        for (int i = 1; i < node.childCount; i++) {
+            char key = node.keys[i];
+            TrieNode child = node.children[i];
+            int j = i - 1;
+            while (j >= 0 && node.keys[j] > key) {
+                node.keys[j + 1] = node.keys[j];
+                node.children[j + 1] = node.children[j];
+                j--;
+            }
+            node.keys[j + 1] = key;
+            node.children[j + 1] = child;
+        }
+    }
+}
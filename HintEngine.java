@@ -0,0 +1,124 @@
+import java.util.*;
+import java.util.List;
+
+public class HintEngine {
+    // Picks the hint letter that tells the player the most. Each unfound slot keeps the words that
+    // could still fill it - lexicon words of the right length spelled from the round's letters that
+    // agree with every letter revealed so far. The best reveal is the one that rules out the most
+    // of them. matchCount keeps, per slot and position, how many candidates agree with the answer
+    // there, so choosing is a scan of slots x positions and only a reveal touches the word lists.
+    private String[] answers;
+    private String[][] candidates; // Live candidates first, candidates[slot][0..live[slot])
+    private int[] live;
+    private int[][] matchCount;
+
+    // Result of the last choose()
+    public int chosenSlot = -1;
+    public int chosenPosition = -1;
+
+    // spellable: lexicon words that can be made from the round's letters, by length
+    public HintEngine(String[] answers, Map<Integer, List<String>> spellable) {
+        this.answers = answers;
+        candidates = new String[answers.length][];
+        live = new int[answers.length];
+        matchCount = new int[answers.length][];
+
+        for (int slot = 0; slot < answers.length; slot++) {
+            String answer = answers[slot].toUpperCase();
+            List<String> fitting = new ArrayList<>();
+            fitting.add(answer);
+            List<String> sameLength = spellable.get(answer.length());
+            if (sameLength != null) {
+                for (String word : sameLength) {
+                    if (!word.equals(answer)) {
+                        fitting.add(word);
+                    }
+                }
+            }
+
+            candidates[slot] = fitting.toArray(new String[0]);
+            live[slot] = candidates[slot].length;
+            matchCount[slot] = new int[answer.length()];
+            for (String word : candidates[slot]) {
+                countMatches(slot, word, 1);
+            }
+        }
+    }
+
+    public int candidatesLeft(int slot) {
+        return live[slot];
+    }
+
+    // Pick the unrevealed position in an unfound slot that rules out the most candidates;
+    // ties, including the case where nothing is left to rule out, go to a random one
+    public boolean choose(boolean[] wordsFound, int[] revealedMask) {
+        chosenSlot = -1;
+        chosenPosition = -1;
+        int bestRemoved = -1;
+        int ties = 0;
+
+        for (int slot = 0; slot < answers.length; slot++) {
+            if (wordsFound[slot]) {
+                continue;
+            }
+            for (int position = 0; position < matchCount[slot].length; position++) {
+                if ((revealedMask[slot] & (1 << position)) != 0) {
+                    continue;
+                }
+                int removed = live[slot] - matchCount[slot][position];
+                if (removed > bestRemoved) {
+                    bestRemoved = removed;
+                    ties = 1;
+                    chosenSlot = slot;
+                    chosenPosition = position;
+                } else if (removed == bestRemoved && Math.random() * ++ties < 1) {
+                    chosenSlot = slot;
+                    chosenPosition = position;
+                }
+            }
+        }
+        return chosenSlot >= 0;
+    }
+
+    // The answer's letter at this position is now showing; drop candidates that disagree
+    public void revealed(int slot, int position) {
+        char letter = Character.toUpperCase(answers[slot].charAt(position));
+        for (int i = live[slot] - 1; i >= 0; i--) {
+            if (candidates[slot][i].charAt(position) != letter) {
+                drop(slot, i);
+            }
+        }
+    }
+
+    // A found word can't be the answer to any other slot
+    public void wordFound(int slot) {
+        String word = answers[slot].toUpperCase();
+        for (int other = 0; other < answers.length; other++) {
+            if (other == slot || matchCount[other].length != word.length()) {
+                continue;
+            }
+            for (int i = live[other] - 1; i >= 0; i--) {
+                if (candidates[other][i].equals(word)) {
+                    drop(other, i);
+                }
+            }
+        }
+    }
+
+    private void drop(int slot, int index) {
+        String[] words = candidates[slot];
+        countMatches(slot, words[index], -1);
+        live[slot]--;
+        words[index] = words[live[slot]];
+        words[live[slot]] = null;
+    }
+
+    private void countMatches(int slot, String word, int delta) {
+        String answer = answers[slot];
+        for (int position = 0; position < word.length(); position++) {
+            if (word.charAt(position) == Character.toUpperCase(answer.charAt(position))) {
+                matchCount[slot][position] += delta;
+            }
+        }
+    }
+}
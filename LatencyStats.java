@@ -0,0 +1,59 @@
+import java.util.Arrays;
+
+public class LatencyStats {
+    // Input-to-paint latency, printed with -Dwordgame.frameStats=true
+    public static final int WINDOW = 50; // Samples per report
+
+    public String name;
+    public boolean enabled = Boolean.getBoolean("wordgame.frameStats");
+
+    // Figures from the last report, in ms
+    public long p50 = -1;
+    public long p99 = -1;
+    public long worst = -1;
+
+    private long[] samples;
+    private int count = 0;
+    private long pendingSince = 0;
+
+    public LatencyStats(String name) {
+        this(name, WINDOW);
+    }
+
+    public LatencyStats(String name, int window) {
+        this.name = name;
+        samples = new long[window];
+    }
+
+    public void inputReceived(long when) {
+        if (enabled && pendingSince == 0) {
+            pendingSince = when;
+        }
+    }
+
+    public void feedbackShown(long now) {
+        if (pendingSince == 0) {
+            return;
+        }
+        samples[count++] = now - pendingSince;
+        pendingSince = 0;
+        if (count == samples.length) {
+            report();
+        }
+    }
+
+    // Print the samples since the last report and start a new window
+    public void report() {
+        if (count == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        p50 = sorted[count / 2];
+        p99 = sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)];
+        worst = sorted[count - 1];
+        System.out.printf("%s: p50 %d ms, p99 %d ms, worst %d ms over %d inputs (frame is %d ms)%n",
+                name, p50, p99, worst, count, FrameClock.FRAME_MS);
+        count = 0;
+    }
+}
@@ -0,0 +1,104 @@
+import java.util.*;
+import java.util.List;
+
+public class NearMissMatcher {
+    // "Did you mean" lookups against a category's words: each category's words are kept in a trie,
+    // and a query walks it with a Levenshtein row per letter, abandoning any branch whose row
+    // has no entry within the allowed distance - a Levenshtein automaton run over the trie.
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private Map<String, TrieNode> categoryTries = new HashMap<>();
+    private int size = 0;
+
+    // Levenshtein rows by trie depth, reused between queries - built on one thread, queried from the EDT
+    private int[][] rows = new int[0][];
+    private String query;
+    private int maxDistance;
+
+    // Result of the last lookup
+    public String matchedWord;
+    public int matchedDistance = NO_MATCH;
+
+    public NearMissMatcher(Map<String, List<String>> categories) {
+        for (Map.Entry<String, List<String>> entry : categories.entrySet()) {
+            for (String word : entry.getValue()) {
+                add(word.toUpperCase(), entry.getKey());
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(String word, String category) {
+        TrieNode node = categoryTries.get(category);
+        if (node == null) {
+            node = new TrieNode();
+            categoryTries.put(category, node);
+        }
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(word.charAt(i));
+        }
+        if (node.word == null) {
+            node.word = word;
+            size++;
+        }
+    }
+
+    // Closest word in the category within maxDistance of the input; sets matchedWord and matchedDistance
+    public boolean findInCategory(String input, String category, int maxDistance) {
+        matchedWord = null;
+        matchedDistance = NO_MATCH;
+        TrieNode root = categoryTries.get(category);
+        if (root == null) {
+            return false;
+        }
+
+        query = input.toUpperCase();
+        this.maxDistance = maxDistance;
+        int columns = query.length() + 1;
+        int depth = query.length() + maxDistance + 1; // No match can be longer than this
+        if (rows.length < depth + 1 || rows[0].length < columns) {
+            rows = new int[depth + 1][columns];
+        }
+        for (int j = 0; j < columns; j++) {
+            rows[0][j] = j;
+        }
+
+        for (int i = 0; i < root.childCount; i++) {
+            search(root.children[i], root.keys[i], 1);
+        }
+        return matchedWord != null;
+    }
+
+    private void search(TrieNode node, char letter, int depth) {
+        if (depth >= rows.length) {
+            return;
+        }
+        int[] previous = rows[depth - 1];
+        int[] current = rows[depth];
+        int columns = query.length() + 1;
+
+        current[0] = depth;
+        int rowMinimum = current[0];
+        for (int j = 1; j < columns; j++) {
+            int cost = query.charAt(j - 1) == letter ? 0 : 1;
+            current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            rowMinimum = Math.min(rowMinimum, current[j]);
+        }
+
+        int distance = current[columns - 1];
+        if (node.word != null && distance <= maxDistance && distance < matchedDistance) {
+            matchedWord = node.word;
+            matchedDistance = distance;
+        }
+
+        // Every longer word through this node is at least rowMinimum away
+        if (rowMinimum <= maxDistance) {
+            for (int i = 0; i < node.childCount; i++) {
+                search(node.children[i], node.keys[i], depth + 1);
+            }
+        }
+    }
+}
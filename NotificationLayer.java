@@ -0,0 +1,202 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class NotificationLayer extends JComponent implements FrameClock.FrameListener {
+    // Glass-pane layer for toasts and banners - never blocks input, animated by the frame clock
+    private static final long serialVersionUID = 1L;
+    public static final int FADE_MS = 200;
+    public static final int BOX_WIDTH = 350;
+    public static final int BOX_PADDING = 15;
+    public static final int BOX_GAP = 10;
+    public static final Color TOAST_COLOR = new Color(52, 152, 219, 200);
+    public static final Color BANNER_COLOR = new Color(180, 60, 50, 220);
+    public static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 20);
+    public static final Font MESSAGE_FONT = new Font("Arial", Font.PLAIN, 16);
+
+    private List<Notification> notifications = new ArrayList<>();
+
+    public NotificationLayer() {
+        setOpaque(false);
+    }
+
+    // Let every mouse event fall through to the screen underneath
+    @Override
+    public boolean contains(int x, int y) {
+        return false;
+    }
+
+    public void showToast(String title, String message, int durationMs) {
+        show(new Notification(title, message, durationMs, TOAST_COLOR, null));
+    }
+
+    public void showBanner(String title, String message, int durationMs, Runnable onClosed) {
+        show(new Notification(title, message, durationMs, BANNER_COLOR, onClosed));
+    }
+
+    private void show(Notification notification) {
+        notification.lines = wrapLines(notification.message, getFontMetrics(MESSAGE_FONT),
+                BOX_WIDTH - BOX_PADDING * 2);
+        notification.shownAt = System.currentTimeMillis();
+        notifications.add(notification);
+        layoutNotifications();
+        repaint();
+    }
+
+    @Override
+    public void onFrame(long now) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        boolean removed = false;
+        List<Runnable> closed = null;
+        Iterator<Notification> iterator = notifications.iterator();
+        while (iterator.hasNext()) {
+            Notification notification = iterator.next();
+            long age = now - notification.shownAt;
+            if (age >= notification.durationMs) {
+                iterator.remove();
+                repaint(notification.bounds);
+                removed = true;
+                if (notification.onClosed != null) {
+                    if (closed == null) {
+                        closed = new ArrayList<>();
+                    }
+                    closed.add(notification.onClosed);
+                }
+            } else if (age < FADE_MS || age > notification.durationMs - FADE_MS) {
+                // Only fading notifications need a new frame
+                repaint(notification.bounds);
+            }
+        }
+
+        if (removed) {
+            layoutNotifications();
+            repaint();
+        }
+
+        // Callbacks run once the list is settled - they can show notifications of their own, or
+        // open a dialog whose event loop keeps delivering frames to this method
+        if (closed != null) {
+            for (Runnable onClosed : closed) {
+                onClosed.run();
+            }
+        }
+    }
+
+    private void layoutNotifications() {
+        FontMetrics titleMetrics = getFontMetrics(TITLE_FONT);
+        FontMetrics messageMetrics = getFontMetrics(MESSAGE_FONT);
+
+        int totalHeight = 0;
+        for (Notification notification : notifications) {
+            int height = BOX_PADDING * 2 + titleMetrics.getHeight() + BOX_GAP
+                    + notification.lines.size() * messageMetrics.getHeight();
+            notification.bounds = new Rectangle(0, 0, BOX_WIDTH, height);
+            totalHeight += height + BOX_GAP;
+        }
+
+        // Stack the boxes around the middle of the window
+        int y = (getHeight() - totalHeight) / 2;
+        for (Notification notification : notifications) {
+            notification.bounds.x = (getWidth() - BOX_WIDTH) / 2;
+            notification.bounds.y = y;
+            y += notification.bounds.height + BOX_GAP;
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        long now = System.currentTimeMillis();
+
+        for (Notification notification : notifications) {
+            Rectangle bounds = notification.bounds;
+            if (!g2d.hitClip(bounds.x, bounds.y, bounds.width, bounds.height)) {
+                continue;
+            }
+
+            // Fade in and out at the edges of the notification's lifetime
+            long age = now - notification.shownAt;
+            float alpha = Math.min(1f, Math.min(age, notification.durationMs - age) / (float) FADE_MS);
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.max(0f, alpha)));
+
+            g2d.setColor(notification.color);
+            g2d.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 20, 20);
+
+            g2d.setColor(Color.WHITE);
+            g2d.setFont(TITLE_FONT);
+            FontMetrics titleMetrics = g2d.getFontMetrics();
+            int textY = bounds.y + BOX_PADDING + titleMetrics.getAscent();
+            g2d.drawString(notification.title,
+                    bounds.x + (bounds.width - titleMetrics.stringWidth(notification.title)) / 2, textY);
+            textY += titleMetrics.getDescent() + BOX_GAP;
+
+            g2d.setFont(MESSAGE_FONT);
+            FontMetrics messageMetrics = g2d.getFontMetrics();
+            for (String line : notification.lines) {
+                textY += messageMetrics.getAscent();
+                g2d.drawString(line, bounds.x + (bounds.width - messageMetrics.stringWidth(line)) / 2, textY);
+                textY += messageMetrics.getDescent() + messageMetrics.getLeading();
+            }
+        }
+
+        g2d.dispose();
+    }
+
+    // Break a message into lines that fit the box, honouring explicit line breaks
+    private List<String> wrapLines(String message, FontMetrics fm, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : message.split("\n")) {
+            StringBuilder line = new StringBuilder();
+            for (String word : paragraph.split(" ")) {
+                if (line.length() > 0 && fm.stringWidth(line + " " + word) > maxWidth) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                }
+                if (line.length() > 0) {
+                    line.append(' ');
+                }
+                line.append(word);
+            }
+            if (line.length() > 0) {
+                lines.add(line.toString());
+            }
+        }
+        return lines;
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        layoutNotifications();
+    }
+}
+
+class Notification {
+    public String title;
+    public String message;
+    public int durationMs;
+    public Color color;
+    public Runnable onClosed;
+    public List<String> lines;
+    public long shownAt;
+    public Rectangle bounds = new Rectangle();
+
+    public Notification(String title, String message, int durationMs, Color color, Runnable onClosed) {
+        this.title = title;
+        this.message = message;
+        this.durationMs = durationMs;
+        this.color = color;
+        this.onClosed = onClosed;
+    }
+}
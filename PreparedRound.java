@@ -0,0 +1,15 @@
+import java.util.Map;
+
+public class PreparedRound {
+    public String[] words;
+    public String scrambledLetters;
+    public BoardShape shape;
+    public HintEngine hintEngine;
+    public CrosswordLayout layout; // Null unless dealt in crossword mode
+    public Map<String, int[]> answerSlots;
+
+    public PreparedRound(String[] words, String scrambledLetters) {
+        this.words = words;
+        this.scrambledLetters = scrambledLetters;
+    }
+}
@@ -0,0 +1,11 @@
+public class PreparedWord {
+    public String category;
+    public String answer;
+    public String scrambled;
+
+    public PreparedWord(String category, String answer, String scrambled) {
+        this.category = category;
+        this.answer = answer;
+        this.scrambled = scrambled;
+    }
+}
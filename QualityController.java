@@ -0,0 +1,68 @@
+public class QualityController {
+    // Steps background effect quality down when effects overrun their budget, and back up when there is headroom
+    public static final double EFFECTS_BUDGET_MS = 6.0; // Share of the 50ms frame the background may use
+    public static final int FRAMES_BEFORE_DOWNGRADE = 20; // About one second over budget
+    public static final int FRAMES_BEFORE_UPGRADE = 100; // About five seconds with headroom
+    public static final double SMOOTHING = 0.1;
+
+    public static final QualityTier[] TIERS = {
+            new QualityTier("low", 10, 8, 3, 2, false, 0.5f),
+            new QualityTier("medium", 20, 15, 5, 3, true, 1f),
+            new QualityTier("high", 30, 25, 8, 4, true, 1f)
+    };
+
+    public int tierIndex = TIERS.length - 1;
+    public double averageFrameMs = 0;
+    public AnimationManager animationManager;
+    public CategoryAnimationManager categoryAnimationManager;
+
+    private long pendingNanos = 0;
+    private int overBudgetFrames = 0;
+    private int underBudgetFrames = 0;
+
+    public QualityController(AnimationManager animationManager, CategoryAnimationManager categoryAnimationManager) {
+        this.animationManager = animationManager;
+        this.categoryAnimationManager = categoryAnimationManager;
+    }
+
+    public QualityTier tier() {
+        return TIERS[tierIndex];
+    }
+
+    // Paint and update paths report how long their effect work took
+    public void addCost(long nanos) {
+        pendingNanos += nanos;
+    }
+
+    // Called once per frame by the governor, before the next update
+    public void endFrame() {
+        double frameMs = pendingNanos / 1e6;
+        pendingNanos = 0;
+        averageFrameMs += (frameMs - averageFrameMs) * SMOOTHING;
+
+        if (averageFrameMs > EFFECTS_BUDGET_MS) {
+            overBudgetFrames++;
+            underBudgetFrames = 0;
+        } else if (averageFrameMs < EFFECTS_BUDGET_MS / 2) {
+            underBudgetFrames++;
+            overBudgetFrames = 0;
+        } else {
+            overBudgetFrames = 0;
+            underBudgetFrames = 0;
+        }
+
+        if (overBudgetFrames >= FRAMES_BEFORE_DOWNGRADE && tierIndex > 0) {
+            setTier(tierIndex - 1);
+        } else if (underBudgetFrames >= FRAMES_BEFORE_UPGRADE && tierIndex < TIERS.length - 1) {
+            setTier(tierIndex + 1);
+        }
+    }
+
+    public void setTier(int index) {
+        tierIndex = index;
+        overBudgetFrames = 0;
+        underBudgetFrames = 0;
+        animationManager.applyQuality(tier());
+        categoryAnimationManager.applyQuality(tier());
+    }
+}
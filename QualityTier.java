@@ -0,0 +1,20 @@
+public class QualityTier {
+    public String name;
+    public int bubbleCount;
+    public int starCount;
+    public int birdCount;
+    public int cloudCount;
+    public boolean antialias;
+    public float spriteScale; // Resolution the sky scenery is rendered at before scaling up
+
+    public QualityTier(String name, int bubbleCount, int starCount, int birdCount, int cloudCount,
+                       boolean antialias, float spriteScale) {
+        this.name = name;
+        this.bubbleCount = bubbleCount;
+        this.starCount = starCount;
+        this.birdCount = birdCount;
+        this.cloudCount = cloudCount;
+        this.antialias = antialias;
+        this.spriteScale = spriteScale;
+    }
+}
@@ -0,0 +1,64 @@
+import java.io.File;
+import java.io.RandomAccessFile;
+
+public class ReviewLogCheck {
+    // Simulates a crash mid-write in the review log: records are written, the file is cut partway
+    // through the last one, more records are appended, and a reload must find every whole record.
+    // Exits 1 if any is lost.
+    // Run with: java ReviewLogCheck
+    public static final String[] BEFORE_CRASH = {"APPLE", "BANANA", "\u00C9CLAIR", "CHERRY", "DAMSON"};
+    public static final String[] AFTER_CRASH = {"FIG", "GUAVA", "HUCKLEBERRY"};
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("reviews-check", ".dat");
+        file.deleteOnExit();
+        file.delete();
+        long now = System.currentTimeMillis();
+
+        ReviewScheduler writer = new ReviewScheduler(file);
+        for (String word : BEFORE_CRASH) {
+            writer.recordMiss(word, now);
+        }
+
+        // Cut the last record in half, as a crash during its write would
+        long lengthBefore = file.length();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(lengthBefore - 9);
+        }
+
+        ReviewScheduler afterCrash = new ReviewScheduler(file);
+        afterCrash.load();
+        for (String word : AFTER_CRASH) {
+            afterCrash.recordMiss(word, now);
+        }
+
+        ReviewScheduler reloaded = new ReviewScheduler(file);
+        reloaded.load();
+
+        boolean failed = false;
+        for (int i = 0; i < BEFORE_CRASH.length - 1; i++) {
+            failed |= expect(reloaded, BEFORE_CRASH[i], true);
+        }
+        failed |= expect(reloaded, BEFORE_CRASH[BEFORE_CRASH.length - 1], false);
+        for (String word : AFTER_CRASH) {
+            failed |= expect(reloaded, word, true);
+        }
+        int expected = BEFORE_CRASH.length - 1 + AFTER_CRASH.length;
+        if (reloaded.size() != expected) {
+            System.out.println("  reloaded " + reloaded.size() + " words, expected " + expected);
+            failed = true;
+        }
+
+        System.out.printf("%d bytes cut to %d, %d words after reload%n", lengthBefore, lengthBefore - 9, reloaded.size());
+        System.out.println(failed ? "FAIL" : "PASS");
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static boolean expect(ReviewScheduler scheduler, String word, boolean tracked) {
+        if (scheduler.isTracked(word) == tracked) {
+            return false;
+        }
+        System.out.println("  " + word + (tracked ? " was lost" : " came back from the torn record"));
+        return true;
+    }
+}
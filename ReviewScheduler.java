@@ -0,0 +1,269 @@
+import java.io.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReviewScheduler {
+    // Spaced repetition for missed category words, kept per profile in an append-only file
+    // A miss brings the word back after a minute; each correct answer stretches the gap by the word's ease
+    public static final int FIRST_INTERVAL_SECONDS = 60;
+    public static final float DEFAULT_EASE = 2.5f;
+    public static final float MIN_EASE = 1.3f;
+    public static final float MAX_EASE = 3.0f;
+
+    private static final int FILE_MAGIC = 0x57535253; // "WSRS"
+    private static final int INITIAL_CAPACITY = 256;
+
+    public File file;
+
+    // Word store - one slot per tracked word, in parallel primitive arrays
+    private Map<String, Integer> ids = new HashMap<>();
+    private String[] words = new String[INITIAL_CAPACITY];
+    private float[] ease = new float[INITIAL_CAPACITY];
+    private int[] intervalSeconds = new int[INITIAL_CAPACITY];
+    private long[] dueAt = new long[INITIAL_CAPACITY];
+    private int count = 0;
+
+    // Binary min-heap of word ids ordered by due time, with each id's heap position for O(log n) updates
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private int[] heapPosition = new int[INITIAL_CAPACITY];
+
+    private DataOutputStream appendStream;
+    private int recordsInFile = 0;
+    // End of the last whole record found by load(), -1 if not loaded; anything past it is cut before appending
+    private long validLength = -1;
+
+    public static String profileFile() {
+        return "reviews-" + System.getProperty("wordgame.profile", "default") + ".dat";
+    }
+
+    public ReviewScheduler(File file) {
+        this.file = file;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isTracked(String word) {
+        return ids.containsKey(word);
+    }
+
+    public void recordMiss(String word, long now) {
+        int id = idFor(word);
+        ease[id] = Math.max(MIN_EASE, ease[id] - 0.2f);
+        intervalSeconds[id] = FIRST_INTERVAL_SECONDS;
+        reschedule(id, now + FIRST_INTERVAL_SECONDS * 1000L);
+    }
+
+    public void recordCorrect(String word, long now) {
+        Integer id = ids.get(word);
+        if (id == null) {
+            return; // Only words that were missed at some point are tracked
+        }
+        intervalSeconds[id] = (int) Math.min(Integer.MAX_VALUE, Math.max(FIRST_INTERVAL_SECONDS,
+                (long) (intervalSeconds[id] * ease[id])));
+        ease[id] = Math.min(MAX_EASE, ease[id] + 0.1f);
+        reschedule(id, now + intervalSeconds[id] * 1000L);
+    }
+
+    // Earliest word that is due, or null. The word is pushed back by its interval so it isn't
+    // dealt twice before the answer is recorded.
+    public String takeDue(long now) {
+        if (count == 0 || dueAt[heap[0]] > now) {
+            return null;
+        }
+        int id = heap[0];
+        reschedule(id, now + intervalSeconds[id] * 1000L);
+        return words[id];
+    }
+
+    private int idFor(String word) {
+        Integer id = ids.get(word);
+        if (id != null) {
+            return id;
+        }
+
+        ensureCapacity(count + 1);
+        int newId = count++;
+        ids.put(word, newId);
+        words[newId] = word;
+        ease[newId] = DEFAULT_EASE;
+        intervalSeconds[newId] = FIRST_INTERVAL_SECONDS;
+        dueAt[newId] = Long.MAX_VALUE;
+        heap[newId] = newId;
+        heapPosition[newId] = newId;
+        siftUp(newId);
+        return newId;
+    }
+
+    private void reschedule(int id, long due) {
+        long previous = dueAt[id];
+        dueAt[id] = due;
+        if (due < previous) {
+            siftUp(heapPosition[id]);
+        } else {
+            siftDown(heapPosition[id]);
+        }
+        append(id);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= words.length) {
+            return;
+        }
+        int capacity = Math.max(needed, words.length * 2);
+        words = Arrays.copyOf(words, capacity);
+        ease = Arrays.copyOf(ease, capacity);
+        intervalSeconds = Arrays.copyOf(intervalSeconds, capacity);
+        dueAt = Arrays.copyOf(dueAt, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        heapPosition = Arrays.copyOf(heapPosition, capacity);
+    }
+
+    private void siftUp(int position) {
+        int id = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (dueAt[heap[parent]] <= dueAt[id]) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(id, position);
+    }
+
+    private void siftDown(int position) {
+        int id = heap[position];
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && dueAt[heap[child + 1]] < dueAt[heap[child]]) {
+                child++;
+            }
+            if (dueAt[id] <= dueAt[heap[child]]) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(id, position);
+    }
+
+    private void place(int id, int position) {
+        heap[position] = id;
+        heapPosition[id] = position;
+    }
+
+    // Load the profile: later records for a word replace earlier ones, a torn last record is ignored
+    // and cut off before the next append, so records written after a crash stay readable
+    public void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16))) {
+            if (in.readInt() != FILE_MAGIC) {
+                return;
+            }
+            validLength = 4;
+            while (true) {
+                String word = in.readUTF();
+                float wordEase = in.readFloat();
+                int interval = in.readInt();
+                long due = in.readLong();
+
+                Integer id = ids.get(word);
+                if (id == null) {
+                    ensureCapacity(count + 1);
+                    id = count++;
+                    ids.put(word, id);
+                    words[id] = word;
+                }
+                ease[id] = wordEase;
+                intervalSeconds[id] = interval;
+                dueAt[id] = due;
+                recordsInFile++;
+                validLength += 2 + utfLength(word) + 16;
+            }
+        } catch (EOFException | UTFDataFormatException e) {
+            // End of the log, or a record torn by a crash mid-write
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        // Build the heap in one linear pass rather than count insertions
+        for (int id = 0; id < count; id++) {
+            place(id, id);
+        }
+        for (int position = count / 2 - 1; position >= 0; position--) {
+            siftDown(position);
+        }
+
+        // Superseded records make up most of the file - rewrite it with one record per word
+        if (recordsInFile > count * 2 + 1000) {
+            compact();
+        }
+    }
+
+    private void append(int id) {
+        try {
+            if (appendStream == null) {
+                if (validLength >= 0 && file.length() > validLength) {
+                    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                        raf.setLength(validLength);
+                    }
+                }
+                boolean newFile = !file.exists() || file.length() == 0;
+                appendStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+                if (newFile) {
+                    appendStream.writeInt(FILE_MAGIC);
+                }
+            }
+            writeRecord(appendStream, id);
+            appendStream.flush();
+            recordsInFile++;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void writeRecord(DataOutputStream out, int id) throws IOException {
+        out.writeUTF(words[id]);
+        out.writeFloat(ease[id]);
+        out.writeInt(intervalSeconds[id]);
+        out.writeLong(dueAt[id]);
+    }
+
+    // Bytes writeUTF uses for the word after its length prefix
+    private static int utfLength(String word) {
+        int length = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c > 0x07FF ? 3 : 2;
+        }
+        return length;
+    }
+
+    private void compact() {
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(FILE_MAGIC);
+            for (int id = 0; id < count; id++) {
+                writeRecord(out, id);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        if (file.delete() && temp.renameTo(file)) {
+            recordsInFile = count;
+            validLength = file.length();
+        }
+    }
+}
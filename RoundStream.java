@@ -0,0 +1,73 @@
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+public class RoundStream {
+    // Endless mode's puzzles: a few rounds are prepared ahead on the prefetch thread and each one
+    // taken is replaced by the next, so however long a run lasts only WINDOW puzzles are held.
+    // Boards grow a letter every ROUNDS_PER_LEVEL rounds and the clock shortens each round.
+    public static final int WINDOW = 3;
+    public static final int ROUNDS_PER_LEVEL = 3;
+    public static final int START_TIME = 180;
+    public static final int MIN_TIME = 90;
+    public static final int TIME_STEP = 10; // Seconds taken off each round
+
+    private GameLogic gameLogic;
+    private ExecutorService executor;
+    private Consumer<PreparedRound> warmUp; // Runs on the prefetch thread once a round is prepared, may be null
+
+    private ArrayDeque<CompletableFuture<PreparedRound>> upcoming = new ArrayDeque<>();
+    private int nextRound = 1; // Round number of the next puzzle to queue
+
+    public RoundStream(GameLogic gameLogic, ExecutorService executor, Consumer<PreparedRound> warmUp) {
+        this.gameLogic = gameLogic;
+        this.executor = executor;
+        this.warmUp = warmUp;
+    }
+
+    // Begin a new run at round 1, dropping anything queued for the last one
+    public void restart() {
+        for (CompletableFuture<PreparedRound> round : upcoming) {
+            round.cancel(false);
+        }
+        upcoming.clear();
+        nextRound = 1;
+        fill();
+    }
+
+    // The next round's puzzle; a replacement starts preparing behind it
+    public PreparedRound take() {
+        if (upcoming.isEmpty()) {
+            fill();
+        }
+        PreparedRound round = upcoming.poll().join();
+        fill();
+        return round;
+    }
+
+    private void fill() {
+        while (upcoming.size() < WINDOW) {
+            BoardShape shape = shapeFor(nextRound++);
+            upcoming.add(CompletableFuture.supplyAsync(() -> {
+                PreparedRound round = gameLogic.prepareRound(shape);
+                if (warmUp != null) {
+                    warmUp.accept(round);
+                }
+                return round;
+            }, executor));
+        }
+    }
+
+    public int queued() {
+        return upcoming.size();
+    }
+
+    public static BoardShape shapeFor(int round) {
+        return BoardShape.forBase(BoardShape.MIN_BASE + (round - 1) / ROUNDS_PER_LEVEL);
+    }
+
+    public static int timeLimitFor(int round) {
+        return Math.max(MIN_TIME, START_TIME - (round - 1) * TIME_STEP);
+    }
+}
@@ -0,0 +1,141 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class SceneryCompositor implements Runnable {
+    // Steps and renders the animated background layer on its own thread, the EDT only blits finished frames
+    // Disable with -Dwordgame.compositor=false to draw the background inside paintComponent again
+    public static final int SCENE_NONE = 0;
+    public static final int SCENE_BUBBLES = 1;
+    public static final int SCENE_SKY = 2;
+
+    // Triple buffering: the compositor owns the back buffer, the EDT owns the front buffer,
+    // and the latest completed frame waits in between. The FRESH bit marks an unseen frame.
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    public AnimationManager animationManager;
+    public CategoryAnimationManager categoryAnimationManager;
+    public BufferedImage[] buffers = new BufferedImage[3];
+    public int[] bufferScenes = new int[3];
+
+    private int backIndex = 0; // Compositor thread only
+    private int frontIndex = 1; // EDT only
+    private AtomicInteger readyIndex = new AtomicInteger(2);
+
+    private AtomicLong pendingCost = new AtomicLong();
+    private volatile int requestedScene = SCENE_NONE;
+    private volatile boolean frameRequested = false;
+    private volatile boolean running = false;
+    private Thread compositorThread;
+
+    public static boolean enabled() {
+        return !GameLoop.enabled() && !"false".equals(System.getProperty("wordgame.compositor"));
+    }
+
+    public SceneryCompositor(AnimationManager animationManager, CategoryAnimationManager categoryAnimationManager) {
+        this.animationManager = animationManager;
+        this.categoryAnimationManager = categoryAnimationManager;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new BufferedImage(AnimationManager.WINDOW_WIDTH, AnimationManager.WINDOW_HEIGHT,
+                    BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        compositorThread = new Thread(this, "scenery-compositor");
+        compositorThread.setDaemon(true);
+        compositorThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (compositorThread != null) {
+            LockSupport.unpark(compositorThread);
+            compositorThread = null;
+        }
+    }
+
+    // Called by the governor on each frame; requests made while a frame is still rendering are merged
+    public void requestFrame(int scene) {
+        requestedScene = scene;
+        frameRequested = true;
+        LockSupport.unpark(compositorThread);
+    }
+
+    // Compositor time since the last call, for the quality controller
+    public long takeCost() {
+        return pendingCost.getAndSet(0);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            if (!frameRequested) {
+                LockSupport.park(this);
+                continue;
+            }
+            frameRequested = false;
+
+            int scene = requestedScene;
+            if (scene == SCENE_NONE) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            composite(scene);
+            pendingCost.addAndGet(System.nanoTime() - start);
+
+            // Publish the finished frame and take back whichever buffer was waiting
+            bufferScenes[backIndex] = scene;
+            backIndex = readyIndex.getAndSet(backIndex | FRESH) & INDEX_MASK;
+
+            if (scene == SCENE_BUBBLES) {
+                if (animationManager.bubblePanel != null) {
+                    animationManager.bubblePanel.repaint();
+                }
+            } else {
+                for (JPanel panel : categoryAnimationManager.panels) {
+                    panel.repaint();
+                }
+            }
+        }
+    }
+
+    private void composite(int scene) {
+        Graphics2D g2d = buffers[backIndex].createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, AnimationManager.WINDOW_WIDTH, AnimationManager.WINDOW_HEIGHT);
+        g2d.setComposite(AlphaComposite.SrcOver);
+
+        if (scene == SCENE_BUBBLES) {
+            synchronized (animationManager) {
+                animationManager.moveBubbles();
+                animationManager.drawBubbles(g2d);
+            }
+        } else {
+            synchronized (categoryAnimationManager) {
+                categoryAnimationManager.updateAnimations();
+                categoryAnimationManager.drawAnimations(g2d);
+            }
+        }
+        g2d.dispose();
+    }
+
+    // EDT: draw the newest completed frame, if it belongs to the screen being painted
+    public void paintLayer(Graphics g, int scene) {
+        if ((readyIndex.get() & FRESH) != 0) {
+            frontIndex = readyIndex.getAndSet(frontIndex) & INDEX_MASK;
+        }
+        if (bufferScenes[frontIndex] == scene) {
+            g.drawImage(buffers[frontIndex], 0, 0, null);
+        }
+    }
+}
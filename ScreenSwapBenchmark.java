@@ -0,0 +1,100 @@
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+
+public class ScreenSwapBenchmark {
+    // Times showing the round complete, game over and words found screens headless, the way they
+    // used to be shown - the old panel removed and a new one built - and the way they are now:
+    // built once and re-bound. Layout of the swapped-in screen is included in both.
+    // Run with: java ScreenSwapBenchmark [swaps]
+    public static final String[] SCREENS = {"roundComplete", "wordsFound", "gameOver", "wordsFound"};
+
+    public static void main(String[] args) throws Exception {
+        int swaps = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+
+        WordScrambleGame game = headlessGame();
+        game.gameLogic.loadWordSets();
+        SwingUtilities.invokeAndWait(() -> {
+            UIManager uiManager = game.uiManager;
+            uiManager.initializeUI();
+            uiManager.getMainPanel().setSize(UIManager.WINDOW_WIDTH, UIManager.WINDOW_HEIGHT);
+
+            GameState gameState = game.gameState;
+            gameState.resetForNewGame();
+            gameState.resetForNewRound();
+            game.gameLogic.applyRound(gameState, game.gameLogic.prepareRound());
+            for (int i = 0; i < gameState.wordsFound.length; i += 2) {
+                gameState.wordsFound[i] = true;
+            }
+
+            // Warm up both paths before timing either
+            run(game, true, swaps / 4, null);
+            run(game, false, swaps / 4, null);
+
+            long[] rebuildNanos = new long[swaps];
+            long rebuildBytes = run(game, true, swaps, rebuildNanos);
+            long[] rebindNanos = new long[swaps];
+            long rebindBytes = run(game, false, swaps, rebindNanos);
+
+            BoardBenchmark.report(String.format("rebuild on show (before), %6.1f KB per swap", rebuildBytes / 1024.0 / swaps), rebuildNanos);
+            BoardBenchmark.report(String.format("build once, re-bind (now), %6.1f KB per swap", rebindBytes / 1024.0 / swaps), rebindNanos);
+        });
+        System.exit(0);
+    }
+
+    // Bytes allocated on this thread over all the swaps
+    private static long run(WordScrambleGame game, boolean rebuild, int swaps, long[] nanos) {
+        UIManager uiManager = game.uiManager;
+        JPanel mainPanel = uiManager.getMainPanel();
+        long startBytes = allocatedBytes();
+        for (int i = 0; i < swaps; i++) {
+            String screen = SCREENS[i % SCREENS.length];
+            long start = System.nanoTime();
+            if (rebuild) {
+                // What createXxxScreen() did on every show before the screens were kept
+                JPanel old = screen.equals("roundComplete") ? uiManager.roundCompletePanel
+                        : screen.equals("gameOver") ? uiManager.gameOverPanel : uiManager.wordsFoundPanel;
+                if (old != null) {
+                    mainPanel.remove(old);
+                }
+                uiManager.builtScreens.remove(screen);
+            }
+            if (screen.equals("roundComplete")) {
+                uiManager.showRoundCompleteScreen();
+            } else if (screen.equals("gameOver")) {
+                uiManager.showGameOverScreen();
+            } else {
+                uiManager.showWordsFoundScreen();
+            }
+            mainPanel.validate();
+            if (nanos != null) {
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+        return allocatedBytes() - startBytes;
+    }
+
+    static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // The game window can't be created without a display, so the game is allocated without running
+    // the JFrame constructor and given the parts the UI code reads. Nothing here opens a window.
+    static WordScrambleGame headlessGame() throws Exception {
+        Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        Object unsafe = field.get(null);
+        WordScrambleGame game = (WordScrambleGame) unsafe.getClass()
+                .getMethod("allocateInstance", Class.class).invoke(unsafe, WordScrambleGame.class);
+
+        game.gameState = new GameState();
+        game.fileManager = new FileManager();
+        game.animationManager = new AnimationManager();
+        game.gameLogic = new GameLogic(game.fileManager, game.animationManager);
+        game.uiManager = new UIManager(game.animationManager, game);
+        game.categoryGame = new CategoryGame(game);
+        game.gridGame = new GridGame(game);
+        return game;
+    }
+}
@@ -0,0 +1,128 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+public class ScreenTransition extends JComponent implements FrameClock.FrameListener {
+    // Crossfade and slide between screens using one snapshot of each - the live screens aren't repainted meanwhile
+    // Disable with -Dwordgame.transitions=false
+    private static final long serialVersionUID = 1L;
+    public static final int DURATION_MS = 250;
+    public static final int CROSSFADE = 0;
+    public static final int SLIDE_LEFT = 1;
+    public static final int SLIDE_RIGHT = 2;
+
+    // Shown to the governor while a transition runs, so no background is stepped underneath
+    public static final String TRANSITION_SCREEN = "transition";
+
+    private BufferedImage outgoing;
+    private BufferedImage incoming;
+    private int style = CROSSFADE;
+    private long startedAt;
+    private Runnable onFinished;
+    private boolean running = false;
+
+    public static boolean enabled() {
+        return !"false".equals(System.getProperty("wordgame.transitions"));
+    }
+
+    public ScreenTransition() {
+        setOpaque(true);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Snapshot the screen that is about to be replaced
+    public void captureOutgoing(JComponent screens) {
+        outgoing = snapshot(screens, outgoing);
+    }
+
+    // Snapshot the new screen and cover both with the transition until it finishes
+    public void start(JComponent screens, int style, Runnable onFinished) {
+        incoming = snapshot(screens, incoming);
+        this.style = style;
+        this.onFinished = onFinished;
+        startedAt = System.currentTimeMillis();
+        running = true;
+
+        JLayeredPane layeredPane = SwingUtilities.getRootPane(screens).getLayeredPane();
+        setBounds(SwingUtilities.convertRectangle(screens.getParent(), screens.getBounds(), layeredPane));
+        layeredPane.add(this, JLayeredPane.PALETTE_LAYER);
+        repaint();
+    }
+
+    // Swap the live screen back in; also used to cut a transition short
+    public void finish() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        Container parent = getParent();
+        if (parent != null) {
+            parent.remove(this);
+            parent.repaint(getX(), getY(), getWidth(), getHeight());
+        }
+        if (onFinished != null) {
+            Runnable callback = onFinished;
+            onFinished = null;
+            callback.run();
+        }
+    }
+
+    @Override
+    public void onFrame(long now) {
+        if (!running) {
+            return;
+        }
+        if (now - startedAt >= DURATION_MS) {
+            finish();
+        } else {
+            repaint();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        float t = Math.min(1f, (System.currentTimeMillis() - startedAt) / (float) DURATION_MS);
+        float progress = t * t * (3 - 2 * t); // Ease in and out
+        int width = getWidth();
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        switch (style) {
+            case SLIDE_LEFT: {
+                int offset = (int)(progress * width);
+                g2d.drawImage(outgoing, -offset, 0, null);
+                g2d.drawImage(incoming, width - offset, 0, null);
+                break;
+            }
+            case SLIDE_RIGHT: {
+                int offset = (int)(progress * width);
+                g2d.drawImage(outgoing, offset, 0, null);
+                g2d.drawImage(incoming, offset - width, 0, null);
+                break;
+            }
+            default:
+                g2d.drawImage(outgoing, 0, 0, null);
+                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, progress));
+                g2d.drawImage(incoming, 0, 0, null);
+                break;
+        }
+        g2d.dispose();
+    }
+
+    // Paint a component tree into a reusable screen-compatible image
+    private BufferedImage snapshot(JComponent component, BufferedImage image) {
+        int width = Math.max(1, component.getWidth());
+        int height = Math.max(1, component.getHeight());
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = component.getGraphicsConfiguration().createCompatibleImage(width, height);
+        }
+
+        Graphics2D g2d = image.createGraphics();
+        component.paint(g2d);
+        g2d.dispose();
+        return image;
+    }
+}
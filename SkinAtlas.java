@@ -0,0 +1,358 @@
+import javax.swing.border.SoftBevelBorder;
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SkinAtlas {
+    // Pre-rendered letter tiles and nine-slice skins, so painting a tile is a single drawImage
+
+    public enum TileStyle {
+        LETTER_TILE(50),    // Yellow bevelled tile on the word scramble screen
+        GRID_EMPTY(50),     // Empty purple grid cell
+        GRID_FOUND(50),     // Yellow grid cell for a found word
+        GRID_HINT(50),      // Blue grid cell for a hinted letter
+        WORD_INPUT(30),     // Green tile in the word scramble input box
+        CARTOON_TILE(90),   // Big cartoon tile on the category screen
+        ANSWER_FILLED(50),  // Green answer box on the category screen
+        ANSWER_EMPTY(50);   // Gray answer box on the category screen
+
+        public final int size;
+
+        TileStyle(int size) {
+            this.size = size;
+        }
+    }
+
+    public static final String COMIC_FAMILY = "Comic Sans MS";
+    public static final Font ARIAL_TILE_FONT = new Font("Arial", Font.BOLD, 24);
+    public static final Color TILE_COLOR = new Color(241, 196, 15);
+    public static final Color HINT_COLOR = new Color(52, 152, 219);
+    public static final Color GRID_COLOR = new Color(120, 100, 160);
+    public static final Color TILE_TEXT_COLOR = new Color(50, 50, 50);
+    public static final Color CARTOON_TEXT_COLOR = new Color(100, 60, 20);
+
+    // Tiles keyed by style, size and letter - the size has 32 bits of its own, so it can't spill into the style
+    private Map<Long, BufferedImage> tiles = new ConcurrentHashMap<>();
+    private Map<Integer, NineSlice> buttonSkins = new ConcurrentHashMap<>();
+    private Map<Integer, NineSlice> cuteButtonSkins = new ConcurrentHashMap<>();
+    private NineSlice infoLabelSkin;
+
+    // Resolved once: "Comic Sans MS" is usually missing on Linux, where fontconfig lookup is slow
+    private volatile String comicFamily;
+    private Map<Integer, Font> comicFonts = new ConcurrentHashMap<>();
+
+    // Resolve fonts and render the A-Z tiles off the EDT
+    public void warmUp() {
+        Thread warmer = new Thread(() -> {
+            resolveComicFamily();
+            for (TileStyle style : TileStyle.values()) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    tile(style, c);
+                }
+            }
+            tile(TileStyle.GRID_EMPTY, ' ');
+            tile(TileStyle.ANSWER_EMPTY, ' ');
+            infoLabelSkin();
+        }, "skin-atlas-warmup");
+        warmer.setDaemon(true);
+        warmer.setPriority(Thread.MIN_PRIORITY);
+        warmer.start();
+    }
+
+    public BufferedImage tile(TileStyle style, char letter) {
+        return tile(style, letter, style.size);
+    }
+
+    public BufferedImage tile(TileStyle style, char letter, int size) {
+        char upper = Character.toUpperCase(letter);
+        long key = ((long) style.ordinal() << 48) | ((long) size << 16) | upper;
+        BufferedImage image = tiles.get(key);
+        if (image == null) {
+            image = renderTile(style, upper, size);
+            tiles.put(key, image);
+        }
+        return image;
+    }
+
+    public Font comicFont(int style, int size) {
+        int key = (style << 16) | size;
+        Font font = comicFonts.get(key);
+        if (font == null) {
+            font = new Font(resolveComicFamily(), style, size);
+            comicFonts.put(key, font);
+        }
+        return font;
+    }
+
+    private String resolveComicFamily() {
+        String family = comicFamily;
+        if (family == null) {
+            family = Font.SANS_SERIF;
+            for (String available : GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames()) {
+                if (available.equalsIgnoreCase(COMIC_FAMILY)) {
+                    family = available;
+                    break;
+                }
+            }
+
+            // Touch the glyphs once so the first real paint doesn't load them
+            FontRenderContext frc = new FontRenderContext(null, true, true);
+            new Font(family, Font.BOLD, 36).createGlyphVector(frc, "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+            ARIAL_TILE_FONT.createGlyphVector(frc, "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+            comicFamily = family;
+        }
+        return family;
+    }
+
+    // Skin for createRoundedButton: 0 = normal, 1 = rollover, 2 = pressed
+    public NineSlice buttonSkin(Color baseColor, int state) {
+        int key = (baseColor.getRGB() & 0xFFFFFF) << 2 | state;
+        NineSlice skin = buttonSkins.get(key);
+        if (skin == null) {
+            BufferedImage image = newImage(48, 48);
+            Graphics2D g2d = antialiased(image);
+            g2d.setColor(stateColor(baseColor, state));
+            g2d.fillRoundRect(0, 0, 48, 48, 20, 20);
+            g2d.dispose();
+            skin = new NineSlice(image, 12, 12, 12, 12);
+            buttonSkins.put(key, skin);
+        }
+        return skin;
+    }
+
+    // Skin for createCuteButton, including its drop shadow and highlight
+    public NineSlice cuteButtonSkin(Color baseColor, int state) {
+        int key = (baseColor.getRGB() & 0xFFFFFF) << 2 | state;
+        NineSlice skin = cuteButtonSkins.get(key);
+        if (skin == null) {
+            int size = 60;
+            BufferedImage image = newImage(size, size);
+            Graphics2D g2d = antialiased(image);
+
+            // Draw button shadow
+            g2d.setColor(new Color(0, 0, 0, 50));
+            g2d.fillRoundRect(3, 3, size, size, 25, 25);
+
+            // Draw main button
+            g2d.setColor(stateColor(baseColor, state));
+            g2d.fillRoundRect(0, 0, size, size, 25, 25);
+
+            // Draw highlight
+            g2d.setColor(new Color(255, 255, 255, 100));
+            g2d.fillRoundRect(5, 5, size - 10, size / 2, 20, 20);
+            g2d.dispose();
+
+            skin = new NineSlice(image, 15, 15, 15, 15);
+            cuteButtonSkins.put(key, skin);
+        }
+        return skin;
+    }
+
+    // Skin for createCuteInfoLabel
+    public NineSlice infoLabelSkin() {
+        NineSlice skin = infoLabelSkin;
+        if (skin == null) {
+            BufferedImage image = newImage(48, 48);
+            Graphics2D g2d = antialiased(image);
+
+            // Draw cute background bubble
+            g2d.setColor(new Color(200, 200, 200, 150));
+            g2d.fillRoundRect(0, 0, 48, 48, 20, 20);
+
+            // Draw border
+            g2d.setColor(new Color(80, 120, 180));
+            g2d.setStroke(new BasicStroke(2));
+            g2d.drawRoundRect(0, 0, 47, 47, 20, 20);
+            g2d.dispose();
+
+            skin = new NineSlice(image, 12, 12, 12, 12);
+            infoLabelSkin = skin;
+        }
+        return skin;
+    }
+
+    private Color stateColor(Color baseColor, int state) {
+        if (state == 2) {
+            return baseColor.darker().darker();
+        } else if (state == 1) {
+            return baseColor.brighter();
+        }
+        return baseColor;
+    }
+
+    private BufferedImage renderTile(TileStyle style, char letter, int size) {
+        switch (style) {
+            case LETTER_TILE: {
+                BufferedImage image = newImage(size, size);
+                Graphics2D g2d = antialiased(image);
+                g2d.setColor(TILE_COLOR);
+                g2d.fillRect(0, 0, size, size);
+
+                // Raised bevel in the colors SoftBevelBorder derives from the tile background
+                new SoftBevelBorder(SoftBevelBorder.RAISED,
+                        TILE_COLOR.brighter().brighter(), TILE_COLOR.brighter(),
+                        TILE_COLOR.darker().darker(), TILE_COLOR.darker())
+                        .paintBorder(null, g2d, 0, 0, size, size);
+
+                drawCenteredLetter(g2d, letter, ARIAL_TILE_FONT, TILE_TEXT_COLOR, 0, 0, size, size);
+                g2d.dispose();
+                return image;
+            }
+            case GRID_EMPTY:
+            case GRID_FOUND:
+            case GRID_HINT: {
+                BufferedImage image = newImage(size, size);
+                Graphics2D g2d = antialiased(image);
+                g2d.setColor(style == TileStyle.GRID_FOUND ? TILE_COLOR : GRID_COLOR);
+                g2d.fillRoundRect(0, 0, size, size, 15, 15);
+                if (style == TileStyle.GRID_HINT) {
+                    g2d.setColor(HINT_COLOR);
+                    g2d.fillRoundRect(0, 0, size, size, 15, 15); // Same rounded cell as the others
+                }
+                if (style != TileStyle.GRID_EMPTY) {
+                    drawCenteredLetter(g2d, letter, ARIAL_TILE_FONT, TILE_TEXT_COLOR, 0, 0, size, size);
+                }
+                g2d.dispose();
+                return image;
+            }
+            case WORD_INPUT: {
+                BufferedImage image = newImage(size, size);
+                Graphics2D g2d = antialiased(image);
+
+                // Draw shadow
+                g2d.setColor(new Color(0, 0, 0, 80));
+                g2d.fillRoundRect(2, 2, size, size, 10, 10);
+
+                // Draw main tile with cartoon gradient
+                g2d.setPaint(new GradientPaint(0, 0, new Color(120, 200, 120), 0, size, new Color(30, 120, 30)));
+                g2d.fillRoundRect(0, 0, size, size, 10, 10);
+
+                // Draw highlight
+                g2d.setColor(new Color(255, 255, 255, 150));
+                g2d.fillRoundRect(2, 2, size - 4, size / 3, 8, 8);
+
+                // Draw border
+                g2d.setColor(new Color(30, 120, 30));
+                g2d.setStroke(new BasicStroke(2));
+                g2d.drawRoundRect(0, 0, size - 1, size - 1, 10, 10);
+
+                drawCenteredLetter(g2d, letter, comicFont(Font.BOLD, 18), Color.WHITE, 0, 0, size, size);
+                g2d.dispose();
+                return image;
+            }
+            case CARTOON_TILE: {
+                BufferedImage image = newImage(size + 4, size + 4);
+                Graphics2D g2d = antialiased(image);
+
+                // Draw shadow
+                g2d.setColor(new Color(0, 0, 0, 100));
+                g2d.fillRoundRect(4, 4, size, size, 20, 20);
+
+                // Draw main tile with gradient
+                g2d.setPaint(new GradientPaint(0, 0, new Color(200, 180, 0), 0, size, new Color(180, 140, 0)));
+                g2d.fillRoundRect(0, 0, size, size, 20, 20);
+
+                // Draw highlight
+                g2d.setColor(new Color(255, 255, 255, 150));
+                g2d.fillRoundRect(5, 5, size - 10, size / 3, 15, 15);
+
+                // Draw border
+                g2d.setColor(new Color(180, 120, 0));
+                g2d.setStroke(new BasicStroke(3));
+                g2d.drawRoundRect(0, 0, size - 1, size - 1, 20, 20);
+
+                drawCenteredLetter(g2d, letter, comicFont(Font.BOLD, 36), CARTOON_TEXT_COLOR, 0, 0, size, size);
+                g2d.dispose();
+                return image;
+            }
+            case ANSWER_FILLED:
+            case ANSWER_EMPTY:
+            default: {
+                BufferedImage image = newImage(size + 2, size + 2);
+                Graphics2D g2d = antialiased(image);
+
+                // Draw shadow
+                g2d.setColor(new Color(0, 0, 0, 80));
+                g2d.fillRoundRect(2, 2, size, size, 15, 15);
+
+                // Filled boxes are green, empty boxes gray
+                if (style == TileStyle.ANSWER_FILLED) {
+                    g2d.setPaint(new GradientPaint(0, 0, new Color(120, 200, 120), 0, size, new Color(30, 120, 30)));
+                } else {
+                    g2d.setPaint(new GradientPaint(0, 0, new Color(180, 180, 180), 0, size, new Color(120, 120, 120)));
+                }
+                g2d.fillRoundRect(0, 0, size, size, 15, 15);
+
+                // Draw border
+                g2d.setColor(new Color(80, 80, 80));
+                g2d.setStroke(new BasicStroke(2));
+                g2d.drawRoundRect(0, 0, size - 1, size - 1, 15, 15);
+
+                if (style == TileStyle.ANSWER_FILLED) {
+                    drawCenteredLetter(g2d, letter, comicFont(Font.BOLD, 20), Color.WHITE, 0, 0, size, size);
+                }
+                g2d.dispose();
+                return image;
+            }
+        }
+    }
+
+    private BufferedImage newImage(int width, int height) {
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private Graphics2D antialiased(BufferedImage image) {
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        return g2d;
+    }
+
+    private void drawCenteredLetter(Graphics2D g2d, char letter, Font font, Color color,
+                                    int x, int y, int width, int height) {
+        if (letter == ' ') {
+            return;
+        }
+        String text = String.valueOf(letter);
+        g2d.setFont(font);
+        g2d.setColor(color);
+        FontMetrics fm = g2d.getFontMetrics();
+        int textX = x + (width - fm.stringWidth(text)) / 2;
+        int textY = y + (height - fm.getHeight()) / 2 + fm.getAscent();
+        g2d.drawString(text, textX, textY);
+    }
+}
+
+class NineSlice {
+    // Corners are drawn as-is, edges and center are stretched to the target size
+    public BufferedImage image;
+    public int top, left, bottom, right;
+
+    public NineSlice(BufferedImage image, int top, int left, int bottom, int right) {
+        this.image = image;
+        this.top = top;
+        this.left = left;
+        this.bottom = bottom;
+        this.right = right;
+    }
+
+    public void paint(Graphics g, int x, int y, int width, int height) {
+        int srcW = image.getWidth();
+        int srcH = image.getHeight();
+        int[] dx = {x, x + left, x + width - right, x + width};
+        int[] dy = {y, y + top, y + height - bottom, y + height};
+        int[] sx = {0, left, srcW - right, srcW};
+        int[] sy = {0, top, srcH - bottom, srcH};
+
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                if (dx[col + 1] > dx[col] && dy[row + 1] > dy[row]) {
+                    g.drawImage(image, dx[col], dy[row], dx[col + 1], dy[row + 1],
+                            sx[col], sy[row], sx[col + 1], sy[row + 1], null);
+                }
+            }
+        }
+    }
+}
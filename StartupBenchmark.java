@@ -0,0 +1,106 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class StartupBenchmark {
+    // Time from main() to the first painted start screen, headless, each run in a fresh JVM so class
+    // loading and font setup are counted. Compares the old startup - every screen built, then word sets
+    // and categories read, all on the EDT before the first frame - with the current one.
+    // Run with: java StartupBenchmark [runs]
+    public static final String[] EAGER_SCREENS = {
+            "game", "pause", "menu", "roundComplete", "gameOver", "wordsFound", "categoryGame"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("--run")) {
+            runOnce(args[1].equals("eager"));
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        long[] eagerNanos = new long[runs];
+        long[] lazyNanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            // Interleaved so disk cache and CPU frequency treat both the same
+            eagerNanos[i] = launch("eager");
+            lazyNanos[i] = launch("lazy");
+        }
+        BoardBenchmark.report("before: all screens, content read on the EDT", eagerNanos);
+        BoardBenchmark.report("now: start screen, content in the background", lazyNanos);
+    }
+
+    private static long launch(String mode) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-Djava.awt.headless=true",
+                "-cp", System.getProperty("java.class.path"), "StartupBenchmark", "--run", mode)
+                .redirectErrorStream(true).start();
+        long nanos = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("first frame ")) {
+                    nanos = Long.parseLong(line.substring("first frame ".length()));
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        process.waitFor();
+        return nanos;
+    }
+
+    private static void runOnce(boolean eager) throws Exception {
+        long launchNanos = System.nanoTime();
+        WordScrambleGame game = ScreenSwapBenchmark.headlessGame();
+
+        SwingUtilities.invokeAndWait(() -> {
+            UIManager uiManager = game.uiManager;
+            if (eager) {
+                uiManager.initializeUI();
+                for (String screen : EAGER_SCREENS) {
+                    uiManager.ensureScreen(screen);
+                }
+                game.gameLogic.loadWordSets();
+                game.categoryGame.loadCategoriesFromFile();
+            } else {
+                // Same as the WordScrambleGame constructor
+                ExecutorService contentLoader = Executors.newFixedThreadPool(2, r -> {
+                    Thread thread = new Thread(r, "content-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                game.wordSetsLoading = CompletableFuture.runAsync(game.gameLogic::loadWordSets, contentLoader);
+                game.categoriesLoading = CompletableFuture.runAsync(game.categoryGame::loadCategoriesFromFile, contentLoader);
+                contentLoader.shutdown();
+                uiManager.initializeUI();
+            }
+
+            // Lay the start screen out at window size and paint it once, as the first frame would be
+            JPanel mainPanel = uiManager.getMainPanel();
+            mainPanel.setSize(WordScrambleGame.WINDOW_WIDTH, WordScrambleGame.WINDOW_HEIGHT);
+            layoutTree(mainPanel);
+            BufferedImage frame = new BufferedImage(mainPanel.getWidth(), mainPanel.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics g = frame.createGraphics();
+            mainPanel.paint(g);
+            g.dispose();
+        });
+
+        System.out.println("first frame " + (System.nanoTime() - launchNanos));
+        System.exit(0);
+    }
+
+    // validate() needs a window peer, so lay the tree out directly
+    private static void layoutTree(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layoutTree((Container) child);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import javax.swing.*;
+import java.awt.*;
+
+public class TileAnimationCheck {
+    // Drives the letter tile bounce and shuffle shake headless and checks that a tick allocates
+    // nothing and never touches the tiles' layout, bounds or borders. Exits 1 if either does.
+    // Run with: java TileAnimationCheck [ticks]
+    public static final int TILES = BoardShape.MAX_BASE;
+    public static final int WARMUP_TICKS = 20000;
+    // Reading the counter and the odd lookup in repaint() cost a few hundred bytes in all; even one
+    // object per tick would be over a megabyte at the default tick count
+    public static final long NOISE_BYTES = 16 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        boolean[] failed = new boolean[1];
+
+        SwingUtilities.invokeAndWait(() -> {
+            AnimationManager animationManager = new AnimationManager();
+            UIManager uiManager = new UIManager(animationManager, null);
+
+            // Stands in for the game screen's tiles panel, which only animates while it is showing
+            JPanel tilesPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 0)) {
+                @Override
+                public boolean isShowing() {
+                    return true;
+                }
+            };
+            JLabel[] tiles = new JLabel[TILES];
+            for (int i = 0; i < TILES; i++) {
+                tiles[i] = uiManager.createLetterTile(String.valueOf((char) ('A' + i)));
+                tilesPanel.add(tiles[i]);
+            }
+            tilesPanel.setSize(tilesPanel.getPreferredSize());
+            tilesPanel.doLayout();
+
+            // Without a window there is no peer to validate against, so what layout depends on is compared instead
+            Dimension preferredSize = tilesPanel.getPreferredSize();
+            Rectangle[] bounds = new Rectangle[TILES];
+            Object[] borders = new Object[TILES];
+            for (int i = 0; i < TILES; i++) {
+                bounds[i] = tiles[i].getBounds();
+                borders[i] = tiles[i].getBorder();
+            }
+
+            animationManager.startTileAnimation(tilesPanel);
+            long offsets = tick(animationManager, tilesPanel, tiles, WARMUP_TICKS);
+            long startBytes = ScreenSwapBenchmark.allocatedBytes();
+            offsets += tick(animationManager, tilesPanel, tiles, ticks);
+            long bytes = ScreenSwapBenchmark.allocatedBytes() - startBytes;
+
+            System.out.printf("%d ticks of %d tiles: %d bytes allocated in total (offset checksum %d)%n",
+                    ticks, TILES, bytes, offsets);
+            if (bytes > NOISE_BYTES) {
+                System.out.println("  ticks allocate");
+                failed[0] = true;
+            }
+            if (!tilesPanel.getPreferredSize().equals(preferredSize)) {
+                System.out.println("  the tiles panel's preferred size changed");
+                failed[0] = true;
+            }
+            for (int i = 0; i < TILES; i++) {
+                if (!tiles[i].getBounds().equals(bounds[i]) || tiles[i].getBorder() != borders[i]) {
+                    System.out.println("  tile " + i + " moved or got a new border");
+                    failed[0] = true;
+                }
+            }
+        });
+
+        System.out.println(failed[0] ? "FAIL" : "PASS");
+        System.exit(failed[0] ? 1 : 0);
+    }
+
+    // One frame: the clock tick, then the offsets every tile reads when it paints.
+    // A shuffle shake is started every 20 frames so its ticks are covered too.
+    private static long tick(AnimationManager animationManager, JPanel tilesPanel, JLabel[] tiles, int ticks) {
+        long offsets = 0;
+        for (int i = 0; i < ticks; i++) {
+            if (i % 20 == 0) {
+                animationManager.startShuffleAnimation(tilesPanel);
+            }
+            animationManager.onFrame(i * (long) FrameClock.FRAME_MS);
+            for (JLabel tile : tiles) {
+                offsets += animationManager.tileOffsetX(tile) + animationManager.tileOffsetY(tile);
+            }
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,29 @@
+import java.util.Arrays;
+
+public class TrieNode {
+    public String word; // Set when a word ends here
+    public char[] keys;
+    public TrieNode[] children;
+    public int childCount = 0;
+
+    public TrieNode childOrCreate(char key) {
+        for (int i = 0; i < childCount; i++) {
+            if (keys[i] == key) {
+                return children[i];
+            }
+        }
+
+        if (children == null) {
+            keys = new char[2];
+            children = new TrieNode[2];
+        } else if (childCount == children.length) {
+            keys = Arrays.copyOf(keys, childCount * 2);
+            children = Arrays.copyOf(children, childCount * 2);
+        }
+        TrieNode child = new TrieNode();
+        keys[childCount] = key;
+        children[childCount] = child;
+        childCount++;
+        return child;
+    }
+}
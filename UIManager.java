@@ -20,23 +20,31 @@ public class UIManager {
     public static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 48);
     public static final Font BUTTON_FONT = new Font("Arial", Font.BOLD, 20);
     public static final Font GAME_FONT = new Font("Arial", Font.BOLD, 16);
+    public static final Font RESULT_HEADING_FONT = new Font("Arial", Font.BOLD, 24);
     public static final int PADDING = 20; // Standard padding
+    public static final int TILE_MARGIN_X = 2; // Room around a letter tile for its shuffle offset
+    public static final int TILE_MARGIN_Y = 3; // Room around a letter tile for its bounce and hover offsets
+    public static final int HOVER_DROP = 3;
 
     // UI Components
     public CardLayout cardLayout;
     public JPanel mainPanel;
+    public Set<String> builtScreens = new HashSet<>();
     public JPanel gamePanel;
-    public JPanel threeLetterGrid;
-    public JPanel fourLetterGrid;
-    public JPanel fiveLetterGrid;
-    public JLabel[][] threeLetterLabels = new JLabel[3][3];
-    public JLabel[][] fourLetterLabels = new JLabel[2][4];
-    public JLabel[] fiveLetterLabels = new JLabel[5];
+    // Word grid, rebuilt when a round has a different board shape
+    public static final int GRID_CELL_SIZE = 52;
+    public static final int GRID_HEIGHT = 216; // Cells shrink to keep taller boards inside this
+    public static final int CROSSWORD_WIDTH = 560;
+    public JPanel gridPanel;
+    public BoardShape gridShape;
+    public JLabel[][] wordCells = new JLabel[0][]; // One row of cells per word, in currentWordSet order
+                                                  // (in a crossword, crossing words share a cell)
     public JLabel timeLabel;
     public JLabel scoreLabel;
     public JLabel roundLabel;
     public JPanel healthBarPanel;
     public JPanel letterTilesPanel;
+    public JLabel hoveredTile;
     public JPanel wordInputPanel;
     public JButton shuffleButton;
     public JButton clearButton;
@@ -46,21 +54,68 @@ public class UIManager {
     public JLabel categoryLabel;
     public JLabel chancesLabel;
     public JLabel categoryTimerLabel;
-    public JPanel scrambledLettersPanel;
-    public JPanel userInputPanel;
+    public CategoryStage categoryStage;
     public JProgressBar categoryProgressBar;
     public JLabel categoryScoreLabel;
     public JLabel categoryTitleLabel; // Add this new field
 
+    // Result screens - built on first use, then re-bound to the game state each time they are shown
+    public JPanel roundCompletePanel;
+    public JProgressBar roundCompleteProgressBar;
+    public JLabel roundCompleteRoundLabel;
+    public JLabel roundCompleteWordsLabel;
+    public JLabel roundCompleteTimeLabel;
+    public JLabel roundCompleteScoreLabel;
+    public JPanel gameOverPanel;
+    public JLabel gameOverFinalScoreLabel;
+    public JProgressBar gameOverProgressBar;
+    public JLabel gameOverRoundLabel;
+    public JLabel gameOverWordsLabel;
+    public JLabel gameOverTimeLabel;
+    public JLabel gameOverScoreLabel;
+    public JPanel wordsFoundPanel;
+
+    // Word grid screen
+    public JPanel gridGameTilesPanel;
+    public JLabel[] gridGameTiles = new JLabel[0];
+    public Set<JLabel> tracedTiles = new HashSet<>(); // Tiles on the word being traced, drawn pressed down
+    public JLabel gridGameWordLabel;
+    public JLabel gridGameTimeLabel;
+    public JLabel gridGameScoreLabel;
+    public JLabel gridGameFoundLabel;
+    public JTextArea gridGameFoundList;
+    public JButton gridGameSizeButton;
+    public JLabel[] wordsFoundLabels = new JLabel[0];
+    public JPanel wordsFoundList;
+    public BoardShape wordsFoundShape;
+
     public AnimationManager animationManager;
     private WordScrambleGame game;
 
     public CategoryAnimationManager categoryAnimationManager;
+    public EdtScheduler edtScheduler;
+    public FrameClock frameClock;
+    public SkinAtlas skinAtlas;
+    public NotificationLayer notificationLayer;
+    public FrameGovernor frameGovernor;
+    public QualityController qualityController;
+    public GameLoop gameLoop;
+    public ScreenTransition screenTransition; // Null when transitions are disabled
+    public String currentScreen = "start";
+    public SceneryCompositor sceneryCompositor;
 
     public UIManager(AnimationManager animationManager, WordScrambleGame game) {
         this.animationManager = animationManager;
         this.game = game;
         this.categoryAnimationManager = new CategoryAnimationManager();
+        this.edtScheduler = new EdtScheduler();
+        animationManager.edtScheduler = edtScheduler;
+        this.frameClock = new FrameClock(edtScheduler);
+        this.qualityController = new QualityController(animationManager, categoryAnimationManager);
+
+        // Resolve fonts and pre-render tiles in the background while the UI is built
+        this.skinAtlas = new SkinAtlas();
+        skinAtlas.warmUp();
     }
 
     public void initializeUI() {
@@ -79,23 +134,71 @@ public class UIManager {
                 g2d.fillRect(0, 0, getWidth(), getHeight());
 
                 // Draw bubbles
-                animationManager.drawBubbles(g2d);
+                paintScenery(g2d, SceneryCompositor.SCENE_BUBBLES);
+
+                game.firstFramePainted();
             }
         };
         mainPanel.setBackground(BG_COLOR_1);
+        builtScreens.add("start");
 
         // Initialize bubbles for background animation
         animationManager.initializeBubbles(mainPanel);
 
-        // Create all game screens
+        // Toasts and banners are drawn over every screen by the frame's glass pane
+        notificationLayer = new NotificationLayer() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+
+                // The glass pane paints last, so this is when input feedback reaches the screen
+                edtScheduler.framePainted();
+            }
+        };
+        edtScheduler.installLatencyProbe();
+        frameClock.addLogicListener(notificationLayer); // Banner callbacks advance the game
+        frameClock.addListener(animationManager);
+
+        if (ScreenTransition.enabled()) {
+            screenTransition = new ScreenTransition();
+            frameClock.addLogicListener(screenTransition); // Finishing swaps in the next screen
+        }
+
+        // Background animations are driven by the governor, only for the visible screen
+        frameGovernor = new FrameGovernor(frameClock, animationManager, categoryAnimationManager, qualityController);
+        frameClock.addListener(frameGovernor);
+
+        // Start the shared frame clock
+        frameClock.start();
+
+        // Render the animated background off the EDT unless active rendering takes it over
+        if (SceneryCompositor.enabled()) {
+            sceneryCompositor = new SceneryCompositor(animationManager, categoryAnimationManager);
+            frameGovernor.sceneryCompositor = sceneryCompositor;
+            sceneryCompositor.start();
+        }
+
+        // Optionally hand the background over to the fixed-timestep active rendering loop
+        if (GameLoop.enabled()) {
+            gameLoop = new GameLoop(frameGovernor);
+            gameLoop.start();
+        }
+
+        // Only the start screen is built up front, the rest are built by ensureScreen() on first use
         createStartScreen();
-        createGameScreen(); // This will now have the cartoon background
-        createPauseScreen();
-        createMenuScreen();
-        createRoundCompleteScreen();
-        createGameOverScreen();
-        createWordsFoundScreen();
-        createCategoryGameScreen();
+    }
+
+    // Background layer beneath the interactive components - a finished compositor frame, or drawn in place
+    private void paintScenery(Graphics2D g2d, int scene) {
+        long start = System.nanoTime();
+        if (sceneryCompositor != null) {
+            sceneryCompositor.paintLayer(g2d, scene);
+        } else if (scene == SceneryCompositor.SCENE_BUBBLES) {
+            animationManager.drawBubbles(g2d);
+        } else {
+            categoryAnimationManager.drawAnimations(g2d);
+        }
+        qualityController.addCost(System.nanoTime() - start);
     }
 
     public JPanel getMainPanel() {
@@ -130,21 +233,38 @@ public class UIManager {
         // Level buttons
         JButton level1Button = createRoundedButton("Level 1: Categorized Word Game");
         level1Button.setPreferredSize(new Dimension(300, 60));
-        level1Button.addActionListener(e -> {
-            game.uiManager.createCategoryGameScreen();
-            game.startCategoryGame();
-        });
+        level1Button.addActionListener(e -> game.startCategoryGame());
 
         JButton level2Button = createRoundedButton("Level 2: Word Scramble");
         level2Button.setPreferredSize(new Dimension(300, 60));
         level2Button.addActionListener(e -> game.startMainGame());
 
+        // Shorter modes pair up two to a row
+        JButton crosswordButton = createRoundedButton("Crossword");
+        crosswordButton.addActionListener(e -> game.startCrosswordGame());
+
+        JButton endlessButton = createRoundedButton("Endless");
+        endlessButton.addActionListener(e -> game.startEndlessGame());
+
+        JButton lightningButton = createRoundedButton("Lightning");
+        lightningButton.addActionListener(e -> game.startLightningGame());
+
+        JButton gridButton = createRoundedButton("Word Grid");
+        gridButton.addActionListener(e -> game.startGridGame(4));
+
+        JPanel variantsPanel = createButtonRow(crosswordButton, endlessButton);
+        JPanel quickPanel = createButtonRow(lightningButton, gridButton);
+
+        JButton dailyButton = createRoundedButton("Puzzle of the Day");
+        dailyButton.setPreferredSize(new Dimension(300, 60));
+        dailyButton.addActionListener(e -> game.startDailyGame());
+
         // Add components to the start panel with proper spacing
         startPanel.add(Box.createVerticalGlue());
         startPanel.add(titlePanel);
         startPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         startPanel.add(subtitleLabel);
-        startPanel.add(Box.createRigidArea(new Dimension(0, 50)));
+        startPanel.add(Box.createRigidArea(new Dimension(0, 30)));
 
         JPanel buttonPanel = new JPanel();
         buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.Y_AXIS));
@@ -152,10 +272,19 @@ public class UIManager {
 
         level1Button.setAlignmentX(Component.CENTER_ALIGNMENT);
         level2Button.setAlignmentX(Component.CENTER_ALIGNMENT);
+        variantsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        quickPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        dailyButton.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         buttonPanel.add(level1Button);
-        buttonPanel.add(Box.createRigidArea(new Dimension(0, 20)));
+        buttonPanel.add(Box.createRigidArea(new Dimension(0, 14)));
         buttonPanel.add(level2Button);
+        buttonPanel.add(Box.createRigidArea(new Dimension(0, 14)));
+        buttonPanel.add(variantsPanel);
+        buttonPanel.add(Box.createRigidArea(new Dimension(0, 14)));
+        buttonPanel.add(quickPanel);
+        buttonPanel.add(Box.createRigidArea(new Dimension(0, 14)));
+        buttonPanel.add(dailyButton);
 
         startPanel.add(buttonPanel);
         startPanel.add(Box.createVerticalGlue());
@@ -163,22 +292,38 @@ public class UIManager {
         mainPanel.add(startPanel, "start");
     }
 
+    // Two half-width buttons side by side, as wide as a full start screen button
+    private JPanel createButtonRow(JButton left, JButton right) {
+        JPanel row = new JPanel();
+        row.setLayout(new BoxLayout(row, BoxLayout.X_AXIS));
+        row.setOpaque(false);
+        for (JButton button : new JButton[]{left, right}) {
+            button.setBorder(new EmptyBorder(10, 8, 10, 8)); // The usual 20px sides would cut the label short
+            button.setPreferredSize(new Dimension(145, 60));
+            button.setMaximumSize(new Dimension(145, 60));
+        }
+        row.add(left);
+        row.add(Box.createRigidArea(new Dimension(10, 0)));
+        row.add(right);
+        return row;
+    }
+
     public JLabel createLetterTile(String letter) {
-        JLabel tile = new JLabel(letter);
-        tile.setPreferredSize(new Dimension(50, 50));
-        tile.setHorizontalAlignment(SwingConstants.CENTER);
-        tile.setVerticalAlignment(SwingConstants.CENTER);
-        tile.setFont(new Font("Arial", Font.BOLD, 24));
-        tile.setForeground(new Color(50, 50, 50));
-        tile.setOpaque(true);
+        JLabel tile = new JLabel(letter) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                // The atlas tile has the bevel baked in; bounce and shuffle only move where it is drawn
+                g.drawImage(skinAtlas.tile(SkinAtlas.TileStyle.LETTER_TILE, getText().charAt(0)),
+                        TILE_MARGIN_X + animationManager.tileOffsetX(this),
+                        TILE_MARGIN_Y + (hoveredTile == this || tracedTiles.contains(this)
+                                ? HOVER_DROP : animationManager.tileOffsetY(this)), null);
+            }
+        };
+        // The margin leaves room for the animation offsets so the tile is never clipped
+        tile.setPreferredSize(new Dimension(50 + TILE_MARGIN_X * 2, 50 + TILE_MARGIN_Y * 2));
+        tile.setOpaque(false);
         tile.setBackground(TILE_COLOR);
 
-        // Create rounded border with shadow effect
-        tile.setBorder(BorderFactory.createCompoundBorder(
-                new SoftBevelBorder(SoftBevelBorder.RAISED),
-                BorderFactory.createEmptyBorder(5, 5, 5, 5)
-        ));
-
         return tile;
     }
 
@@ -200,7 +345,7 @@ public class UIManager {
                 // animationManager.drawBubbles(g2d);
 
                 // Draw birds (NEW - added to level 2)
-                categoryAnimationManager.drawAnimations(g2d);
+                paintScenery(g2d, SceneryCompositor.SCENE_SKY);
 
                 // Remove this line:
                 // drawClouds(g2d);
@@ -264,59 +409,10 @@ public class UIManager {
         JPanel centerPanel = new JPanel(new BorderLayout(0, 5)); // Further reduced spacing
         centerPanel.setOpaque(false);
 
-        // Create the main grid panel with proper layout
-        JPanel gridPanel = new JPanel(new GridBagLayout());
+        // The grid itself is laid out by buildWordGrid() once a round is dealt
+        gridPanel = new JPanel(new GridBagLayout());
         gridPanel.setOpaque(false);
-        GridBagConstraints gbc = new GridBagConstraints();
-
-        // 3-letter words grid (3x3) - Left side
-        threeLetterGrid = new JPanel(new GridLayout(3, 3, 2, 2)); // Reduced gap
-        threeLetterGrid.setOpaque(false);
-        threeLetterGrid.setPreferredSize(new Dimension(156, 156)); // Further reduced
-
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                threeLetterLabels[i][j] = createGridCell();
-                threeLetterGrid.add(threeLetterLabels[i][j]);
-            }
-        }
-
-        // 4-letter words grid (2x4) - Right side
-        fourLetterGrid = new JPanel(new GridLayout(2, 4, 2, 2)); // Reduced gap
-        fourLetterGrid.setOpaque(false);
-        fourLetterGrid.setPreferredSize(new Dimension(208, 104)); // Further reduced
-
-        for (int i = 0; i < 2; i++) {
-            for (int j = 0; j < 4; j++) {
-                fourLetterLabels[i][j] = createGridCell();
-                fourLetterGrid.add(fourLetterLabels[i][j]);
-            }
-        }
-
-        // 5-letter word grid (1x5) - Bottom
-        fiveLetterGrid = new JPanel(new GridLayout(1, 5, 2, 2)); // Reduced gap
-        fiveLetterGrid.setOpaque(false);
-        fiveLetterGrid.setPreferredSize(new Dimension(260, 52)); // Further reduced
-
-        for (int i = 0; i < 5; i++) {
-            fiveLetterLabels[i] = createGridCell();
-            fiveLetterGrid.add(fiveLetterLabels[i]);
-        }
-
-        // Add grids with proper positioning and spacing
-        gbc.gridx = 0; gbc.gridy = 0;
-        gbc.insets = new Insets(8, 8, 8, 8); // Further reduced spacing
-        gbc.anchor = GridBagConstraints.CENTER;
-        gridPanel.add(threeLetterGrid, gbc);
-
-        gbc.gridx = 1; gbc.gridy = 0;
-        gridPanel.add(fourLetterGrid, gbc);
-
-        gbc.gridx = 0; gbc.gridy = 1;
-        gbc.gridwidth = 2;
-        gbc.insets = new Insets(2, 8, 5, 8); // Minimal margin to save space
-        gbc.anchor = GridBagConstraints.CENTER;
-        gridPanel.add(fiveLetterGrid, gbc);
+        gridShape = null;
 
         // Health/hint bar panel (MADE SLIMMER)
         healthBarPanel = new JPanel() {
@@ -335,7 +431,7 @@ public class UIManager {
                 // Draw the progress sections with bright cartoon colors
                 int sections = 4;
                 int sectionWidth = (getWidth() - 50) / sections;
-                int filledSections = (int) Math.ceil(game.gameState.timeRemaining / 45.0);
+                int filledSections = (int) Math.ceil(game.gameState.timeRemaining / (game.gameState.timeLimit / 4.0));
 
                 for (int i = 0; i < sections; i++) {
                     if (i < filledSections) {
@@ -493,7 +589,8 @@ public class UIManager {
         shuffleButton.addActionListener(e -> game.shuffleLetters());
 
         // Letter tiles panel
-        letterTilesPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 8, 8));
+        letterTilesPanel = new JPanel(new FlowLayout(FlowLayout.CENTER,
+                8 - TILE_MARGIN_X * 2, 8 - TILE_MARGIN_Y * 2));
         letterTilesPanel.setOpaque(false);
 
         JPanel buttonPanel = new JPanel(new BorderLayout());
@@ -521,35 +618,43 @@ public class UIManager {
         mainPanel.add(gamePanel, "game");
     }
 
-    public JLabel createGridCell() {
+    public JLabel createGridCell(int tileSize) {
         JLabel cell = new JLabel() {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Draw rounded rectangle for the cell
-                g2d.setColor(GRID_COLOR);
-                RoundRectangle2D roundedRect = new RoundRectangle2D.Float(
-                        0, 0, getWidth(), getHeight(), 15, 15);
-                g2d.fill(roundedRect);
-
-                // If the cell has a letter, draw it with a different background
-                if (isOpaque() && getBackground() == TILE_COLOR) {
-                    g2d.setColor(TILE_COLOR);
-                    g2d.fill(roundedRect);
+                String text = getText();
+                Color background = getBackground();
+                SkinAtlas.TileStyle style;
+                if (text.isEmpty() || !isOpaque()) {
+                    style = SkinAtlas.TileStyle.GRID_EMPTY;
+                } else if (TILE_COLOR.equals(background)) {
+                    style = SkinAtlas.TileStyle.GRID_FOUND;
+                } else if (SkinAtlas.HINT_COLOR.equals(background)) {
+                    style = SkinAtlas.TileStyle.GRID_HINT;
+                } else {
+                    // Mid-flash colors are transient, paint them the old way
+                    g.setColor(background);
+                    g.fillRect(0, 0, getWidth(), getHeight());
+                    style = null;
                 }
 
-                super.paintComponent(g);
+                char letter = text.isEmpty() ? ' ' : text.charAt(0);
+                int x = (getWidth() - tileSize) / 2;
+                int y = (getHeight() - tileSize) / 2;
+                if (style != null) {
+                    g.drawImage(skinAtlas.tile(style, letter, tileSize), x, y, null);
+                } else {
+                    g.setFont(SkinAtlas.ARIAL_TILE_FONT);
+                    g.setColor(SkinAtlas.TILE_TEXT_COLOR);
+                    FontMetrics fm = g.getFontMetrics();
+                    g.drawString(text, (getWidth() - fm.stringWidth(text)) / 2,
+                            (getHeight() - fm.getHeight()) / 2 + fm.getAscent());
+                }
             }
         };
-        cell.setPreferredSize(new Dimension(50, 50)); // Further reduced for consistency
-        cell.setMinimumSize(new Dimension(50, 50));
-        cell.setMaximumSize(new Dimension(50, 50));
-        cell.setHorizontalAlignment(SwingConstants.CENTER);
-        cell.setVerticalAlignment(SwingConstants.CENTER);
-        cell.setFont(new Font("Arial", Font.BOLD, 24)); // Slightly smaller font
-        cell.setForeground(new Color(50, 50, 50));
+        cell.setPreferredSize(new Dimension(tileSize, tileSize));
+        cell.setMinimumSize(new Dimension(tileSize, tileSize));
+        cell.setMaximumSize(new Dimension(tileSize, tileSize));
         cell.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
 
         return cell;
@@ -676,86 +781,55 @@ public class UIManager {
         mainPanel.add(menuPanel, "menu");
     }
 
-    public void createRoundCompleteScreen() {
-        // Remove the old screen if it exists
-        Component[] components = mainPanel.getComponents();
-        for (Component comp : components) {
-            if (comp.getName() != null && comp.getName().equals("roundComplete")) {
-                mainPanel.remove(comp);
-                break;
-            }
-        }
+    public void showRoundCompleteScreen() {
+        ensureScreen("roundComplete");
+        bindRoundStats(roundCompleteProgressBar, roundCompleteRoundLabel, " complete:", roundCompleteWordsLabel,
+                roundCompleteTimeLabel, roundCompleteScoreLabel);
+        showScreen("roundComplete");
+    }
+
+    public void showGameOverScreen() {
+        ensureScreen("gameOver");
+        gameOverFinalScoreLabel.setText("Final score .................................... " + game.gameState.score);
+        bindRoundStats(gameOverProgressBar, gameOverRoundLabel, " failed:", gameOverWordsLabel,
+                gameOverTimeLabel, gameOverScoreLabel);
+        showScreen("gameOver");
+    }
 
-        JPanel roundCompletePanel = new JPanel() {
+    public void showWordsFoundScreen() {
+        ensureScreen("wordsFound");
+        bindWordsFound();
+        showScreen("wordsFound");
+    }
+
+    public void createRoundCompleteScreen() {
+        roundCompletePanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
                 // Don't call super.paintComponent to allow the mainPanel's background to show through
                 // The bubbles will be visible through this transparent panel
             }
         };
-        roundCompletePanel.setName("roundComplete");
         roundCompletePanel.setOpaque(false);
         roundCompletePanel.setLayout(new BoxLayout(roundCompletePanel, BoxLayout.Y_AXIS));
         roundCompletePanel.setBorder(BorderFactory.createEmptyBorder(PADDING, PADDING, PADDING, PADDING));
 
         // Round complete title
         JLabel titleLabel = new JLabel("GREAT JOB!");
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 48));
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(TILE_COLOR);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // Progress bar
-        JProgressBar progressBar = new JProgressBar(0, GameState.MAX_ROUNDS);
-        progressBar.setValue(game.gameState.currentRound);
-        progressBar.setStringPainted(false);
-        progressBar.setPreferredSize(new Dimension(400, 20));
-        progressBar.setMaximumSize(new Dimension(400, 20));
-        progressBar.setBackground(GRID_COLOR);
-        progressBar.setForeground(TILE_COLOR);
-        progressBar.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Round stats - FIXED: Calculate current values dynamically
-        JPanel statsPanel = new JPanel();
-        statsPanel.setLayout(new BoxLayout(statsPanel, BoxLayout.Y_AXIS));
-        statsPanel.setOpaque(false);
-        statsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        JLabel roundLabel = new JLabel("Round " + game.gameState.currentRound + " complete:");
-        roundLabel.setFont(new Font("Arial", Font.BOLD, 24));
-        roundLabel.setForeground(TILE_COLOR);
-        roundLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // FIXED: Calculate actual words found count
-        int wordsFoundCount = 0;
-        for (boolean found : game.gameState.wordsFound) {
-            if (found) wordsFoundCount++;
-        }
-
-        JLabel targetWordsLabel = new JLabel("Words found .................... " + wordsFoundCount + "/6");
-        targetWordsLabel.setFont(GAME_FONT);
-        targetWordsLabel.setForeground(Color.WHITE);
-        targetWordsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // FIXED: Calculate actual time spent
-        int timeSpent = 180 - game.gameState.timeRemaining;
-        JLabel timeSpentLabel = new JLabel("Time spent ............................. " + game.gameState.formatTime(timeSpent));
-        timeSpentLabel.setFont(GAME_FONT);
-        timeSpentLabel.setForeground(Color.WHITE);
-        timeSpentLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // FIXED: Show actual current score
-        JLabel roundScoreLabel = new JLabel("Round score ............................ " + game.gameState.score);
-        roundScoreLabel.setFont(GAME_FONT);
-        roundScoreLabel.setForeground(Color.WHITE);
-        roundScoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        roundCompleteProgressBar = createRoundProgressBar(TILE_COLOR);
 
-        statsPanel.add(roundLabel);
-        statsPanel.add(Box.createRigidArea(new Dimension(0, 20)));
-        statsPanel.add(targetWordsLabel);
-        statsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        statsPanel.add(timeSpentLabel);
-        statsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        statsPanel.add(roundScoreLabel);
+        // Round stats - filled in by bindRoundStats() each time the screen is shown
+        roundCompleteRoundLabel = createResultLabel(RESULT_HEADING_FONT, TILE_COLOR);
+        roundCompleteWordsLabel = createResultLabel(GAME_FONT, Color.WHITE);
+        roundCompleteTimeLabel = createResultLabel(GAME_FONT, Color.WHITE);
+        roundCompleteScoreLabel = createResultLabel(GAME_FONT, Color.WHITE);
+        JPanel statsPanel = createStatsPanel(roundCompleteRoundLabel, roundCompleteWordsLabel,
+                roundCompleteTimeLabel, roundCompleteScoreLabel);
 
         // Buttons
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0));
@@ -776,7 +850,7 @@ public class UIManager {
         roundCompletePanel.add(Box.createVerticalGlue());
         roundCompletePanel.add(titleLabel);
         roundCompletePanel.add(Box.createRigidArea(new Dimension(0, 20)));
-        roundCompletePanel.add(progressBar);
+        roundCompletePanel.add(roundCompleteProgressBar);
         roundCompletePanel.add(Box.createRigidArea(new Dimension(0, 30)));
         roundCompletePanel.add(statsPanel);
         roundCompletePanel.add(Box.createRigidArea(new Dimension(0, 30)));
@@ -787,91 +861,35 @@ public class UIManager {
     }
 
     public void createGameOverScreen() {
-        // Remove the old screen if it exists
-        Component[] components = mainPanel.getComponents();
-        for (Component comp : components) {
-            if (comp.getName() != null && comp.getName().equals("gameOver")) {
-                mainPanel.remove(comp);
-                break;
-            }
-        }
-
-        JPanel gameOverPanel = new JPanel() {
+        gameOverPanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
                 // Don't call super.paintComponent to allow the mainPanel's background to show through
                 // The bubbles will be visible through this transparent panel
             }
         };
-        gameOverPanel.setName("gameOver");
         gameOverPanel.setOpaque(false);
         gameOverPanel.setLayout(new BoxLayout(gameOverPanel, BoxLayout.Y_AXIS));
         gameOverPanel.setBorder(BorderFactory.createEmptyBorder(PADDING, PADDING, PADDING, PADDING));
 
         // Game over title
         JLabel titleLabel = new JLabel("TIME'S UP!");
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 48));
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(Color.WHITE);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
-        // FIXED: Show actual final score
-        JLabel finalScoreLabel = new JLabel("Final score .................................... " + game.gameState.score);
-        finalScoreLabel.setFont(GAME_FONT);
-        finalScoreLabel.setForeground(Color.WHITE);
-        finalScoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        gameOverFinalScoreLabel = createResultLabel(GAME_FONT, Color.WHITE);
 
         // Progress bar
-        JProgressBar progressBar = new JProgressBar(0, GameState.MAX_ROUNDS);
-        progressBar.setValue(game.gameState.currentRound);
-        progressBar.setStringPainted(false);
-        progressBar.setPreferredSize(new Dimension(400, 20));
-        progressBar.setMaximumSize(new Dimension(400, 20));
-        progressBar.setBackground(GRID_COLOR);
-        progressBar.setForeground(new Color(180, 60, 50)); // Darker Red
-        progressBar.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Round stats - FIXED: Calculate current values dynamically
-        JPanel statsPanel = new JPanel();
-        statsPanel.setLayout(new BoxLayout(statsPanel, BoxLayout.Y_AXIS));
-        statsPanel.setOpaque(false);
-        statsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        JLabel roundLabel = new JLabel("Round " + game.gameState.currentRound + " failed:");
-        roundLabel.setFont(new Font("Arial", Font.BOLD, 24));
-        roundLabel.setForeground(TILE_COLOR);
-        roundLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // FIXED: Calculate actual words found count
-        int wordsFoundCount = 0;
-        for (boolean found : game.gameState.wordsFound) {
-            if (found) wordsFoundCount++;
-        }
-
-        JLabel targetWordsLabel = new JLabel("Words found .................... " + wordsFoundCount + "/6");
-        targetWordsLabel.setFont(GAME_FONT);
-        targetWordsLabel.setForeground(Color.WHITE);
-        targetWordsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // FIXED: Calculate actual time spent
-        int timeSpent = 180 - game.gameState.timeRemaining;
-        JLabel timeSpentLabel = new JLabel("Time spent ............................. " + game.gameState.formatTime(timeSpent));
-        timeSpentLabel.setFont(GAME_FONT);
-        timeSpentLabel.setForeground(Color.WHITE);
-        timeSpentLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        gameOverProgressBar = createRoundProgressBar(new Color(180, 60, 50)); // Darker Red
 
-        // FIXED: Show actual current score
-        JLabel roundScoreLabel = new JLabel("Round score ............................ " + game.gameState.score);
-        roundScoreLabel.setFont(GAME_FONT);
-        roundScoreLabel.setForeground(Color.WHITE);
-        roundScoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        statsPanel.add(roundLabel);
-        statsPanel.add(Box.createRigidArea(new Dimension(0, 20)));
-        statsPanel.add(targetWordsLabel);
-        statsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        statsPanel.add(timeSpentLabel);
-        statsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        statsPanel.add(roundScoreLabel);
+        // Round stats - filled in by bindRoundStats() each time the screen is shown
+        gameOverRoundLabel = createResultLabel(RESULT_HEADING_FONT, TILE_COLOR);
+        gameOverWordsLabel = createResultLabel(GAME_FONT, Color.WHITE);
+        gameOverTimeLabel = createResultLabel(GAME_FONT, Color.WHITE);
+        gameOverScoreLabel = createResultLabel(GAME_FONT, Color.WHITE);
+        JPanel statsPanel = createStatsPanel(gameOverRoundLabel, gameOverWordsLabel,
+                gameOverTimeLabel, gameOverScoreLabel);
 
         // Buttons
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0));
@@ -892,9 +910,9 @@ public class UIManager {
         gameOverPanel.add(Box.createVerticalGlue());
         gameOverPanel.add(titleLabel);
         gameOverPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        gameOverPanel.add(finalScoreLabel);
+        gameOverPanel.add(gameOverFinalScoreLabel);
         gameOverPanel.add(Box.createRigidArea(new Dimension(0, 20)));
-        gameOverPanel.add(progressBar);
+        gameOverPanel.add(gameOverProgressBar);
         gameOverPanel.add(Box.createRigidArea(new Dimension(0, 30)));
         gameOverPanel.add(statsPanel);
         gameOverPanel.add(Box.createRigidArea(new Dimension(0, 30)));
@@ -904,133 +922,90 @@ public class UIManager {
         mainPanel.add(gameOverPanel, "gameOver");
     }
 
-    public void createWordsFoundScreen() {
-        // Remove old screen if exists
-        Component[] components = mainPanel.getComponents();
-        for (Component comp : components) {
-            if (comp.getName() != null && comp.getName().equals("wordsFound")) {
-                mainPanel.remove(comp);
-                break;
-            }
+    private JProgressBar createRoundProgressBar(Color foreground) {
+        JProgressBar progressBar = new JProgressBar(0, GameState.MAX_ROUNDS);
+        progressBar.setStringPainted(false);
+        progressBar.setPreferredSize(new Dimension(400, 20));
+        progressBar.setMaximumSize(new Dimension(400, 20));
+        progressBar.setBackground(GRID_COLOR);
+        progressBar.setForeground(foreground);
+        progressBar.setAlignmentX(Component.CENTER_ALIGNMENT);
+        return progressBar;
+    }
+
+    private JLabel createResultLabel(Font font, Color color) {
+        JLabel label = new JLabel(" ");
+        label.setFont(font);
+        label.setForeground(color);
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        return label;
+    }
+
+    private JPanel createStatsPanel(JLabel roundLabel, JLabel wordsLabel, JLabel timeLabel, JLabel scoreLabel) {
+        JPanel statsPanel = new JPanel();
+        statsPanel.setLayout(new BoxLayout(statsPanel, BoxLayout.Y_AXIS));
+        statsPanel.setOpaque(false);
+        statsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        statsPanel.add(roundLabel);
+        statsPanel.add(Box.createRigidArea(new Dimension(0, 20)));
+        statsPanel.add(wordsLabel);
+        statsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        statsPanel.add(timeLabel);
+        statsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        statsPanel.add(scoreLabel);
+        return statsPanel;
+    }
+
+    // Copy the current round's values into an already built stats panel
+    private void bindRoundStats(JProgressBar progressBar, JLabel roundLabel, String roundSuffix,
+                                JLabel wordsLabel, JLabel timeLabel, JLabel scoreLabel) {
+        GameState gameState = game.gameState;
+        if (gameState.endless) {
+            // No last round to count towards, show progress through the current board size instead
+            progressBar.setMaximum(RoundStream.ROUNDS_PER_LEVEL);
+            progressBar.setValue((gameState.currentRound - 1) % RoundStream.ROUNDS_PER_LEVEL + 1);
+        } else {
+            progressBar.setMaximum(GameState.MAX_ROUNDS);
+            progressBar.setValue(gameState.currentRound);
+        }
+        roundLabel.setText("Round " + gameState.currentRound + roundSuffix);
+
+        int wordsFoundCount = 0;
+        for (boolean found : gameState.wordsFound) {
+            if (found) wordsFoundCount++;
         }
+        wordsLabel.setText("Words found .................... " + wordsFoundCount + "/" + gameState.wordsFound.length);
+
+        int timeSpent = gameState.timeLimit - gameState.timeRemaining;
+        timeLabel.setText("Time spent ............................. " + gameState.formatTime(timeSpent));
+        scoreLabel.setText("Round score ............................ " + gameState.score);
+    }
 
-        JPanel wordsFoundPanel = new JPanel() {
+    public void createWordsFoundScreen() {
+        wordsFoundPanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
                 // Don't call super.paintComponent to allow the mainPanel's background to show through
             }
         };
-        wordsFoundPanel.setName("wordsFound");
         wordsFoundPanel.setOpaque(false);
         wordsFoundPanel.setLayout(new BoxLayout(wordsFoundPanel, BoxLayout.Y_AXIS));
         wordsFoundPanel.setBorder(BorderFactory.createEmptyBorder(PADDING, PADDING, PADDING, PADDING));
 
         // Words title
         JLabel wordsTitle = new JLabel("Current Round Words");
-        wordsTitle.setFont(new Font("Arial", Font.BOLD, 24));
+        wordsTitle.setFont(RESULT_HEADING_FONT);
         wordsTitle.setForeground(TILE_COLOR);
         wordsTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
 
-        // Words display
+        // Words display - one label per word slot, laid out and filled in by bindWordsFound()
         JPanel wordsPanel = new JPanel();
         wordsPanel.setLayout(new BoxLayout(wordsPanel, BoxLayout.Y_AXIS));
         wordsPanel.setOpaque(false);
         wordsPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        // Check if game is still active (time remaining > 0)
-        boolean gameActive = game.gameState.timeRemaining > 0;
-
-        // 3-letter words
-        JLabel threeLetterTitle = new JLabel("3-Letter Words:");
-        threeLetterTitle.setFont(GAME_FONT);
-        threeLetterTitle.setForeground(Color.WHITE);
-        threeLetterTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
-        wordsPanel.add(threeLetterTitle);
-
-        for (int i = 0; i < 3; i++) {
-            if (gameActive) {
-                // During gameplay: only show found words
-                if (i < game.gameState.wordsFound.length && game.gameState.wordsFound[i]) {
-                    String word = (game.gameState.currentWordSet != null && i < game.gameState.currentWordSet.length && game.gameState.currentWordSet[i] != null) ? game.gameState.currentWordSet[i] : "???";
-                    JLabel wordLabel = new JLabel(word + " - FOUND");
-                    wordLabel.setFont(GAME_FONT);
-                    wordLabel.setForeground(Color.GREEN);
-                    wordLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                    wordsPanel.add(wordLabel);
-                }
-            } else {
-                // After game ends: show all words
-                String word = (game.gameState.currentWordSet != null && i < game.gameState.currentWordSet.length && game.gameState.currentWordSet[i] != null) ? game.gameState.currentWordSet[i] : "???";
-                String status = (i < game.gameState.wordsFound.length && game.gameState.wordsFound[i]) ? " - FOUND" : " - MISSING";
-                JLabel wordLabel = new JLabel(word + status);
-                wordLabel.setFont(GAME_FONT);
-                wordLabel.setForeground((i < game.gameState.wordsFound.length && game.gameState.wordsFound[i]) ? Color.GREEN : Color.RED);
-                wordLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                wordsPanel.add(wordLabel);
-            }
-        }
-
-        wordsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-
-        // 4-letter words
-        JLabel fourLetterTitle = new JLabel("4-Letter Words:");
-        fourLetterTitle.setFont(GAME_FONT);
-        fourLetterTitle.setForeground(Color.WHITE);
-        fourLetterTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
-        wordsPanel.add(fourLetterTitle);
-
-        for (int i = 3; i < 5; i++) {
-            if (gameActive) {
-                // During gameplay: only show found words
-                if (i < game.gameState.wordsFound.length && game.gameState.wordsFound[i]) {
-                    String word = (game.gameState.currentWordSet != null && i < game.gameState.currentWordSet.length && game.gameState.currentWordSet[i] != null) ? game.gameState.currentWordSet[i] : "???";
-                    JLabel wordLabel = new JLabel(word + " - FOUND");
-                    wordLabel.setFont(GAME_FONT);
-                    wordLabel.setForeground(Color.GREEN);
-                    wordLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                    wordsPanel.add(wordLabel);
-                }
-            } else {
-                // After game ends: show all words
-                String word = (game.gameState.currentWordSet != null && i < game.gameState.currentWordSet.length && game.gameState.currentWordSet[i] != null) ? game.gameState.currentWordSet[i] : "???";
-                String status = (i < game.gameState.wordsFound.length && game.gameState.wordsFound[i]) ? " - FOUND" : " - MISSING";
-                JLabel wordLabel = new JLabel(word + status);
-                wordLabel.setFont(GAME_FONT);
-                wordLabel.setForeground((i < game.gameState.wordsFound.length && game.gameState.wordsFound[i]) ? Color.GREEN : Color.RED);
-                wordLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                wordsPanel.add(wordLabel);
-            }
-        }
-
-        wordsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-
-        // 5-letter word
-        JLabel fiveLetterTitle = new JLabel("5-Letter Word:");
-        fiveLetterTitle.setFont(GAME_FONT);
-        fiveLetterTitle.setForeground(Color.WHITE);
-        fiveLetterTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
-        wordsPanel.add(fiveLetterTitle);
-
-        if (gameActive) {
-            // During gameplay: only show if found
-            if (game.gameState.wordsFound.length > 5 && game.gameState.wordsFound[5]) {
-                String word = (game.gameState.currentWordSet != null && game.gameState.currentWordSet.length > 5 && game.gameState.currentWordSet[5] != null) ? game.gameState.currentWordSet[5] : "???";
-                JLabel wordLabel = new JLabel(word + " - FOUND");
-                wordLabel.setFont(GAME_FONT);
-                wordLabel.setForeground(Color.GREEN);
-                wordLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                wordsPanel.add(wordLabel);
-            }
-        } else {
-            // After game ends: show the word
-            String word = (game.gameState.currentWordSet != null && game.gameState.currentWordSet.length > 5 && game.gameState.currentWordSet[5] != null) ? game.gameState.currentWordSet[5] : "???";
-            String status = (game.gameState.wordsFound.length > 5 && game.gameState.wordsFound[5]) ? " - FOUND" : " - MISSING";
-            JLabel wordLabel = new JLabel(word + status);
-            wordLabel.setFont(GAME_FONT);
-            wordLabel.setForeground((game.gameState.wordsFound.length > 5 && game.gameState.wordsFound[5]) ? Color.GREEN : Color.RED);
-            wordLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            wordsPanel.add(wordLabel);
-        }
+        wordsFoundList = wordsPanel;
+        wordsFoundShape = null;
 
         // OK button
         JButton okButton = createRoundedButton("Ok");
@@ -1063,24 +1038,67 @@ public class UIManager {
         mainPanel.add(wordsFoundPanel, "wordsFound");
     }
 
+    // One group of labels per word length, rebuilt only when the board shape changes
+    private void buildWordsFoundList() {
+        String[] words = game.gameState.currentWordSet;
+        BoardShape shape = game.gameState.boardShape;
+        if (shape.equals(wordsFoundShape) && wordsFoundLabels.length == words.length) {
+            return;
+        }
+        wordsFoundShape = shape;
+        wordsFoundList.removeAll();
+        wordsFoundLabels = new JLabel[words.length];
+
+        for (int length = BoardShape.MIN_WORD; length <= shape.baseLength; length++) {
+            int slots = shape.slots(length);
+            if (slots == 0) {
+                continue;
+            }
+            if (wordsFoundList.getComponentCount() > 0) {
+                wordsFoundList.add(Box.createRigidArea(new Dimension(0, 10)));
+            }
+            JLabel groupTitle = createResultLabel(GAME_FONT, Color.WHITE);
+            groupTitle.setText(length + "-Letter " + (slots == 1 ? "Word:" : "Words:"));
+            wordsFoundList.add(groupTitle);
+
+            for (int i = 0; i < words.length; i++) {
+                if (words[i] != null && words[i].length() == length) {
+                    wordsFoundLabels[i] = createResultLabel(GAME_FONT, Color.GREEN);
+                    wordsFoundList.add(wordsFoundLabels[i]);
+                }
+            }
+        }
+        wordsFoundList.revalidate();
+    }
+
+    private void bindWordsFound() {
+        GameState gameState = game.gameState;
+        buildWordsFoundList();
+
+        // During gameplay only found words are listed, after the round every word is
+        boolean gameActive = gameState.timeRemaining > 0;
+
+        for (int i = 0; i < wordsFoundLabels.length; i++) {
+            boolean found = i < gameState.wordsFound.length && gameState.wordsFound[i];
+            String word = (gameState.currentWordSet != null && i < gameState.currentWordSet.length
+                    && gameState.currentWordSet[i] != null) ? gameState.currentWordSet[i] : "???";
+
+            JLabel wordLabel = wordsFoundLabels[i];
+            if (wordLabel == null) {
+                continue;
+            }
+            wordLabel.setVisible(found || !gameActive);
+            wordLabel.setText(word + (found ? " - FOUND" : " - MISSING"));
+            wordLabel.setForeground(found ? Color.GREEN : Color.RED);
+        }
+    }
+
     public JButton createRoundedButton(String text) {
         JButton button = new JButton(text) {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                if (getModel().isPressed()) {
-                    g2.setColor(BUTTON_COLOR.darker().darker());
-                } else if (getModel().isRollover()) {
-                    g2.setColor(BUTTON_COLOR.brighter());
-                } else {
-                    g2.setColor(BUTTON_COLOR);
-                }
-
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 20, 20);
-
-                g2.dispose();
+                skinAtlas.buttonSkin(BUTTON_COLOR, buttonState(getModel()))
+                        .paint(g, 0, 0, getWidth(), getHeight());
 
                 super.paintComponent(g);
             }
@@ -1115,6 +1133,16 @@ public class UIManager {
         return button;
     }
 
+    // Skin state for a button model: 0 = normal, 1 = rollover, 2 = pressed
+    private int buttonState(ButtonModel model) {
+        if (model.isPressed()) {
+            return 2;
+        } else if (model.isRollover()) {
+            return 1;
+        }
+        return 0;
+    }
+
     public JButton createIconButton(String text) {
         JButton button = new JButton(text) {
             @Override
@@ -1167,95 +1195,41 @@ public class UIManager {
     }
 
     public void updateLetterTiles() {
-        letterTilesPanel.removeAll();
-
         char[] letters = game.gameState.scrambledLetters.toCharArray();
+
+        // Same number of letters as last round - re-label the existing tiles, no new components or layout
+        if (letterTilesPanel.getComponentCount() == letters.length) {
+            for (int index = 0; index < letters.length; index++) {
+                ((JLabel) letterTilesPanel.getComponent(index)).setText(String.valueOf(letters[index]));
+            }
+            letterTilesPanel.repaint();
+            return;
+        }
+
+        letterTilesPanel.removeAll();
         for (int index = 0; index < letters.length; index++) {
-            final char c = letters[index]; // Make it effectively final
-            JLabel letterTile = createLetterTile(String.valueOf(c));
+            JLabel letterTile = createLetterTile(String.valueOf(letters[index]));
             letterTile.addMouseListener(new MouseAdapter() {
                 @Override
                 public void mouseClicked(MouseEvent e) {
-                    // Add letter to current input word (allow multiple selections)
-                    if (game.gameState.currentInputWord.length() < 5) {
-                        game.gameState.currentInputWord += c;
-                        updateWordInputDisplay();
-
-                        // Check if this forms a valid word when we have 3+ letters
-                        if (game.gameState.currentInputWord.length() >= 3) {
-                            // Check if the current word matches any target word
-                            String currentWord = game.gameState.currentInputWord;
-                            boolean wordFound = false;
-                            int wordIndex = -1;
-
-                            // Check against all target words
-                            for (int i = 0; i < game.gameState.currentWordSet.length; i++) {
-                                if (game.gameState.currentWordSet[i].equalsIgnoreCase(currentWord) && !game.gameState.wordsFound[i]) {
-                                    wordFound = true;
-                                    wordIndex = i;
-                                    break;
-                                }
-                            }
-
-                            if (wordFound) {
-                                // Mark word as found and update score
-                                game.gameState.wordsFound[wordIndex] = true;
-                                game.gameState.score += 30;
-                                scoreLabel.setText("Score: " + game.gameState.score);
-
-                                // Place word in grid
-                                game.gameLogic.placeWordInGrid(currentWord, wordIndex, threeLetterLabels, fourLetterLabels, fiveLetterLabels);
-
-                                // Clear the input display IMMEDIATELY
-                                game.gameState.currentInputWord = "";
-                                updateWordInputDisplay();
-
-                                // Check how many words have been found for auto-reveal bonus
-                                int wordsFoundCount = 0;
-                                for (boolean found : game.gameState.wordsFound) {
-                                    if (found) wordsFoundCount++;
-                                }
-
-                                // Auto-reveal a letter after every 2 words found (2, 4, 6...)
-                                if (wordsFoundCount > 0 && wordsFoundCount % 2 == 0) {
-                                    autoRevealLetter();
-                                }
-
-                                // Check if all words are found
-                                boolean allWordsFound = true;
-                                for (boolean found : game.gameState.wordsFound) {
-                                    if (!found) {
-                                        allWordsFound = false;
-                                        break;
-                                    }
-                                }
-
-                                if (allWordsFound) {
-                                    game.roundComplete();
-                                }
-                            }
-                        }
-                    }
+                    edtScheduler.input(e, () -> letterTileClicked(letterTile));
                 }
 
                 @Override
                 public void mouseEntered(MouseEvent e) {
-                    letterTile.setBorder(BorderFactory.createCompoundBorder(
-                            new SoftBevelBorder(SoftBevelBorder.RAISED),
-                            BorderFactory.createEmptyBorder(8, 5, 2, 5)
-                    ));
-                    letterTile.setCursor(new Cursor(Cursor.HAND_CURSOR));
+                    hoveredTile = letterTile;
+                    letterTile.repaint();
                 }
 
                 @Override
                 public void mouseExited(MouseEvent e) {
-                    letterTile.setBorder(BorderFactory.createCompoundBorder(
-                            new SoftBevelBorder(SoftBevelBorder.RAISED),
-                            BorderFactory.createEmptyBorder(5, 5, 5, 5)
-                    ));
-                    letterTile.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+                    if (hoveredTile == letterTile) {
+                        hoveredTile = null;
+                    }
+                    letterTile.repaint();
                 }
             });
+            letterTile.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
             letterTilesPanel.add(letterTile);
         }
 
@@ -1263,67 +1237,75 @@ public class UIManager {
         letterTilesPanel.repaint();
     }
 
-    public void autoRevealLetter() {
-        // Find words that haven't been found yet
-        java.util.List<Integer> remainingWordIndices = new ArrayList<>();
-        for (int i = 0; i < game.gameState.wordsFound.length; i++) {
-            if (!game.gameState.wordsFound[i]) {
-                remainingWordIndices.add(i);
-            }
-        }
+    // A click on a scramble letter tile: add its letter to the word and check for a match
+    private void letterTileClicked(JLabel letterTile) {
+        // The tile may have been re-labelled since it was created
+        char c = letterTile.getText().charAt(0);
+
+        // Add letter to current input word (allow multiple selections)
+        if (game.gameState.currentInputWord.length() < game.gameState.boardShape.baseLength) {
+            game.gameState.currentInputWord += c;
+            updateWordInputDisplay();
+
+            // Check if this forms a valid word when we have 3+ letters
+            if (game.gameState.currentInputWord.length() >= 3) {
+                // Check if the current word matches any target word
+                int wordIndex = game.gameLogic.matchAnswer(game.gameState, game.gameState.currentInputWord);
+                boolean wordFound = wordIndex >= 0;
+
+                if (wordFound) {
+                    // Mark word as found and update score
+                    game.gameState.wordsFound[wordIndex] = true;
+                    game.gameLogic.wordFound(game.gameState, wordIndex);
+                    game.gameState.score += 30;
+                    scoreLabel.setText("Score: " + game.gameState.score);
+
+                    // Place word in grid
+                    game.gameLogic.placeWordInGrid(game.gameState.currentWordSet[wordIndex], wordIndex, wordCells);
+
+                    // Clear the input display IMMEDIATELY
+                    game.gameState.currentInputWord = "";
+                    updateWordInputDisplay();
+
+                    // Check how many words have been found for auto-reveal bonus
+                    int wordsFoundCount = 0;
+                    for (boolean found : game.gameState.wordsFound) {
+                        if (found) wordsFoundCount++;
+                    }
 
-        if (!remainingWordIndices.isEmpty()) {
-            // Get a random word from the remaining words
-            int randomIndex = remainingWordIndices.get((int)(Math.random() * remainingWordIndices.size()));
-            String word = game.gameState.currentWordSet[randomIndex];
+                    // Auto-reveal a letter after every 2 words found (2, 4, 6...)
+                    if (wordsFoundCount > 0 && wordsFoundCount % 2 == 0) {
+                        autoRevealLetter();
+                    }
 
-            // Reveal one letter in the appropriate grid
-            game.gameLogic.revealLetterInGrid(word, randomIndex, threeLetterLabels, fourLetterLabels, fiveLetterLabels);
+                    // Check if all words are found
+                    boolean allWordsFound = true;
+                    for (boolean found : game.gameState.wordsFound) {
+                        if (!found) {
+                            allWordsFound = false;
+                            break;
+                        }
+                    }
 
+                    if (allWordsFound) {
+                        game.roundComplete();
+                    }
+                }
+            }
+        }
+    }
+
+    public void autoRevealLetter() {
+        // Reveal one letter in the appropriate grid
+        if (game.gameLogic.revealHint(game.gameState, wordCells) >= 0) {
             // Show auto-closing notification (2 seconds)
             showAutoClosingMessage("Bonus! A letter has been revealed for finding 2 words!", "Auto Reveal", 2000);
         }
     }
 
     public void showAutoClosingMessage(String message, String title, int delayMs) {
-        JPanel messagePanel = new JPanel(new BorderLayout(0, 10));
-        messagePanel.setBackground(new Color(52, 152, 219, 200));
-        messagePanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-
-        JLabel titleLabel = new JLabel(title);
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 20));
-        titleLabel.setForeground(Color.WHITE);
-        titleLabel.setHorizontalAlignment(SwingConstants.CENTER);
-
-        JLabel messageLabel = new JLabel("<html><center>" + message + "</center></html>");
-        messageLabel.setFont(new Font("Arial", Font.PLAIN, 16));
-        messageLabel.setForeground(Color.WHITE);
-        messageLabel.setHorizontalAlignment(SwingConstants.CENTER);
-
-        messagePanel.add(titleLabel, BorderLayout.NORTH);
-        messagePanel.add(messageLabel, BorderLayout.CENTER);
-
-        // Create a dialog that auto-closes
-        JDialog messageDialog = new JDialog(game, title, true);
-        messageDialog.add(messagePanel);
-        messageDialog.setSize(350, 120);
-        messageDialog.setLocationRelativeTo(game);
-        messageDialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-        messageDialog.setUndecorated(true);
-
-        // Auto-close after specified delay
-        Timer autoCloseTimer = new Timer();
-        autoCloseTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                SwingUtilities.invokeLater(() -> {
-                    messageDialog.dispose();
-                });
-                autoCloseTimer.cancel();
-            }
-        }, delayMs);
-
-        messageDialog.setVisible(true);
+        // Non-blocking toast on the glass pane, gameplay input keeps flowing
+        notificationLayer.showToast(title, message, delayMs);
     }
 
     public void updateWordInputDisplay() {
@@ -1333,39 +1315,11 @@ public class UIManager {
             JLabel letterLabel = new JLabel(String.valueOf(c)) {
                 @Override
                 protected void paintComponent(Graphics g) {
-                    Graphics2D g2d = (Graphics2D) g.create();
-                    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                    // Draw shadow
-                    g2d.setColor(new Color(0, 0, 0, 80));
-                    g2d.fillRoundRect(2, 2, getWidth(), getHeight(), 10, 10);
-
-                    // Draw main tile with cartoon gradient
-                    GradientPaint tileGradient = new GradientPaint(
-                            0, 0, new Color(120, 200, 120),
-                            0, getHeight(), new Color(30, 120, 30));
-                    g2d.setPaint(tileGradient);
-                    g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 10, 10);
-
-                    // Draw highlight
-                    g2d.setColor(new Color(255, 255, 255, 150));
-                    g2d.fillRoundRect(2, 2, getWidth()-4, getHeight()/3, 8, 8);
-
-                    // Draw border
-                    g2d.setColor(new Color(30, 120, 30));
-                    g2d.setStroke(new BasicStroke(2));
-                    g2d.drawRoundRect(0, 0, getWidth()-1, getHeight()-1, 10, 10);
-
-                    g2d.dispose();
-                    super.paintComponent(g);
+                    g.drawImage(skinAtlas.tile(SkinAtlas.TileStyle.WORD_INPUT, c), 0, 0, null);
                 }
             };
 
             letterLabel.setPreferredSize(new Dimension(30, 30)); // Slightly bigger
-            letterLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            letterLabel.setVerticalAlignment(SwingConstants.CENTER);
-            letterLabel.setFont(new Font("Comic Sans MS", Font.BOLD, 18)); // Comic Sans MS
-            letterLabel.setForeground(Color.WHITE);
             letterLabel.setOpaque(false);
 
             wordInputPanel.add(letterLabel);
@@ -1376,34 +1330,449 @@ public class UIManager {
     }
 
     public void clearAllGrids() {
-        // Clear 3-letter grids
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                threeLetterLabels[i][j].setText("");
-                threeLetterLabels[i][j].setOpaque(false);
-                threeLetterLabels[i][j].setBackground(null);
+        buildWordGrid();
+
+        for (JLabel[] row : wordCells) {
+            for (JLabel cell : row) {
+                cell.setText("");
+                cell.setOpaque(false);
+                cell.setBackground(null);
             }
         }
+    }
 
-        // Clear 4-letter grids
-        for (int i = 0; i < 2; i++) {
-            for (int j = 0; j < 4; j++) {
-                fourLetterLabels[i][j].setText("");
-                fourLetterLabels[i][j].setOpaque(false);
-                fourLetterLabels[i][j].setBackground(null);
+    // Grid tile size for a board, shrunk so every row of blocks fits in GRID_HEIGHT
+    public static int gridTileSize(BoardShape shape) {
+        int tallness = 0;
+        int blocks = 0;
+        int previousRows = 0;
+        for (int length = BoardShape.MIN_WORD; length <= shape.baseLength; length++) {
+            int rows = shape.slots(length);
+            if (rows == 0) {
+                continue;
             }
+            // Blocks pair up two to a row, a row is as tall as its taller block
+            if (blocks % 2 == 0) {
+                tallness += rows;
+            } else {
+                tallness += Math.max(0, rows - previousRows);
+            }
+            previousRows = rows;
+            blocks++;
         }
+        return Math.min(GRID_CELL_SIZE, GRID_HEIGHT / Math.max(1, tallness)) - 2;
+    }
 
-        // Clear 5-letter grid
-        for (int i = 0; i < 5; i++) {
-            fiveLetterLabels[i].setText("");
-            fiveLetterLabels[i].setOpaque(false);
-            fiveLetterLabels[i].setBackground(null);
+    // Crossword tile size, shrunk so the whole crossword fits in GRID_HEIGHT x CROSSWORD_WIDTH
+    public static int crosswordTileSize(CrosswordLayout layout) {
+        return Math.min(GRID_CELL_SIZE, Math.min(GRID_HEIGHT / layout.rows, CROSSWORD_WIDTH / layout.cols)) - 2;
+    }
+
+    // Lay the grid out for the current board: one block per word length, rows of that length
+    // stacked inside it, two blocks to a row with a leftover longest block centered underneath
+    public void buildWordGrid() {
+        if (game.gameState.crosswordLayout != null) {
+            buildCrosswordGrid(game.gameState.crosswordLayout);
+            return;
+        }
+        BoardShape shape = game.gameState.boardShape;
+        if (shape.equals(gridShape) && wordCells.length == game.gameState.currentWordSet.length) {
+            return;
+        }
+        gridShape = shape;
+        gridPanel.removeAll();
+
+        java.util.List<Integer> lengths = new ArrayList<>();
+        for (int length = BoardShape.MIN_WORD; length <= shape.baseLength; length++) {
+            if (shape.slots(length) > 0) {
+                lengths.add(length);
+            }
+        }
+
+        int cellSize = gridTileSize(shape) + 2;
+
+        Map<Integer, JPanel> blocks = new HashMap<>();
+        for (int length : lengths) {
+            JPanel block = new JPanel(new GridLayout(shape.slots(length), length, 2, 2));
+            block.setOpaque(false);
+            block.setPreferredSize(new Dimension(cellSize * length, cellSize * shape.slots(length)));
+            blocks.put(length, block);
+        }
+
+        String[] words = game.gameState.currentWordSet;
+        wordCells = new JLabel[words.length][];
+        for (int slot = 0; slot < words.length; slot++) {
+            JPanel block = blocks.get(words[slot].length());
+            wordCells[slot] = new JLabel[words[slot].length()];
+            for (int j = 0; j < wordCells[slot].length; j++) {
+                wordCells[slot][j] = createGridCell(cellSize - 2);
+                block.add(wordCells[slot][j]);
+            }
+        }
+
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.CENTER;
+        int inset = Math.max(2, cellSize / 6);
+        for (int i = 0; i < lengths.size(); i++) {
+            gbc.gridx = i % 2;
+            gbc.gridy = i / 2;
+            boolean alone = i % 2 == 0 && i == lengths.size() - 1;
+            gbc.gridwidth = alone ? 2 : 1;
+            gbc.insets = alone ? new Insets(2, 8, 5, 8) : new Insets(inset, 8, inset, 8);
+            gridPanel.add(blocks.get(lengths.get(i)), gbc);
         }
+
+        gridPanel.revalidate();
+        gridPanel.repaint();
+    }
+
+    // Lay the words out as their crossword: one cell per letter square, shared where words cross
+    public void buildCrosswordGrid(CrosswordLayout layout) {
+        gridShape = null; // Every crossword is different, and the next plain board is laid out afresh
+        gridPanel.removeAll();
+
+        int cellSize = crosswordTileSize(layout) + 2;
+        JPanel board = new JPanel(new GridLayout(layout.rows, layout.cols, 2, 2));
+        board.setOpaque(false);
+        board.setPreferredSize(new Dimension(cellSize * layout.cols, cellSize * layout.rows));
+
+        String[] words = game.gameState.currentWordSet;
+        JLabel[] squares = new JLabel[layout.rows * layout.cols];
+        wordCells = new JLabel[words.length][];
+        for (int slot = 0; slot < words.length; slot++) {
+            wordCells[slot] = new JLabel[words[slot].length()];
+            for (int j = 0; j < wordCells[slot].length; j++) {
+                int square = layout.row(slot, j) * layout.cols + layout.col(slot, j);
+                if (squares[square] == null) {
+                    squares[square] = createGridCell(cellSize - 2);
+                }
+                wordCells[slot][j] = squares[square];
+            }
+        }
+        for (JLabel square : squares) {
+            board.add(square != null ? square : new JLabel()); // Blank squares stay see-through
+        }
+
+        gridPanel.add(board, new GridBagConstraints());
+        gridPanel.revalidate();
+        gridPanel.repaint();
     }
 
     public void showScreen(String screenName) {
+        ensureScreen(screenName);
+        String previousScreen = currentScreen;
+        currentScreen = screenName;
+
+        if (screenTransition == null) {
+            cardLayout.show(mainPanel, screenName);
+            frameGovernor.screenShown(screenName);
+            return;
+        }
+
+        // A transition still running is cut short, its target is the outgoing screen now
+        screenTransition.finish();
+        if (!mainPanel.isShowing() || screenName.equals(previousScreen)) {
+            cardLayout.show(mainPanel, screenName);
+            frameGovernor.screenShown(screenName);
+            return;
+        }
+
+        // Capture the old and new screens once, then let the transition composite the two snapshots
+        screenTransition.captureOutgoing(mainPanel);
         cardLayout.show(mainPanel, screenName);
+        mainPanel.validate();
+        frameGovernor.screenShown(ScreenTransition.TRANSITION_SCREEN);
+        screenTransition.start(mainPanel, transitionStyle(previousScreen, screenName),
+                () -> frameGovernor.screenShown(screenName));
+    }
+
+    // Slide into and out of play, crossfade between everything else
+    private int transitionStyle(String from, String to) {
+        boolean fromPlay = FrameGovernor.SCENERY_SCREENS.contains(from);
+        boolean toPlay = FrameGovernor.SCENERY_SCREENS.contains(to);
+        if ("start".equals(from) && toPlay) {
+            return ScreenTransition.SLIDE_LEFT;
+        } else if (fromPlay && "start".equals(to)) {
+            return ScreenTransition.SLIDE_RIGHT;
+        }
+        return ScreenTransition.CROSSFADE;
+    }
+
+    // Build a screen the first time it is needed
+    public void ensureScreen(String screenName) {
+        if (builtScreens.contains(screenName)) {
+            return;
+        }
+        builtScreens.add(screenName);
+
+        switch (screenName) {
+            case "game":
+                createGameScreen();
+                break;
+            case "pause":
+                createPauseScreen();
+                break;
+            case "menu":
+                createMenuScreen();
+                break;
+            case "categoryGame":
+                createCategoryGameScreen();
+                break;
+            case "roundComplete":
+                createRoundCompleteScreen();
+                break;
+            case "gameOver":
+                createGameOverScreen();
+                break;
+            case "wordsFound":
+                createWordsFoundScreen();
+                break;
+            case "gridGame":
+                createGridGameScreen();
+                break;
+            default:
+                // "start" is built in initializeUI()
+                break;
+        }
+    }
+
+    public void createGridGameScreen() {
+        JPanel gridGamePanel = new JPanel(new BorderLayout(PADDING, 10)) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g;
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                // Same sky as the other play screens
+                GradientPaint gradient = new GradientPaint(
+                        0, 0, new Color(135, 206, 250), // Sky blue
+                        0, getHeight(), new Color(255, 182, 193)); // Light pink
+                g2d.setPaint(gradient);
+                g2d.fillRect(0, 0, getWidth(), getHeight());
+
+                paintScenery(g2d, SceneryCompositor.SCENE_SKY);
+            }
+        };
+        gridGamePanel.setOpaque(false);
+        gridGamePanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+
+        // Top panel: quit and new board on the left, time and score in the middle
+        JPanel topPanel = new JPanel(new BorderLayout());
+        topPanel.setOpaque(false);
+
+        JPanel leftTopPanel = new JPanel();
+        leftTopPanel.setLayout(new BoxLayout(leftTopPanel, BoxLayout.Y_AXIS));
+        leftTopPanel.setOpaque(false);
+
+        JButton quitButton = createCuteButton("Quit", new Color(180, 60, 50));
+        quitButton.setPreferredSize(new Dimension(130, 30));
+        quitButton.setMaximumSize(new Dimension(130, 30));
+        quitButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        quitButton.addActionListener(e -> {
+            int option = JOptionPane.showConfirmDialog(game,
+                    "Are you sure you want to quit the word grid?",
+                    "Quit Word Grid", JOptionPane.YES_NO_OPTION);
+            if (option == JOptionPane.YES_OPTION) {
+                game.gridGame.quit();
+                showScreen("start");
+            }
+        });
+
+        // Deal a new board, switching between 4x4 and 5x5
+        JButton sizeButton = createCuteButton("Try 5x5", new Color(46, 204, 113));
+        sizeButton.setPreferredSize(new Dimension(130, 30));
+        sizeButton.setMaximumSize(new Dimension(130, 30));
+        sizeButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        sizeButton.addActionListener(e -> game.startGridGame(game.gridGame.size == 4 ? 5 : 4));
+        gridGameSizeButton = sizeButton;
+
+        leftTopPanel.add(quitButton);
+        leftTopPanel.add(Box.createRigidArea(new Dimension(0, 5)));
+        leftTopPanel.add(sizeButton);
+
+        JPanel infoPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 40, 10));
+        infoPanel.setOpaque(false);
+        gridGameTimeLabel = createCuteInfoLabel("Time: 03:00");
+        gridGameScoreLabel = createCuteInfoLabel("Score: 0");
+        infoPanel.add(gridGameTimeLabel);
+        infoPanel.add(gridGameScoreLabel);
+
+        JPanel rightTopPanel = new JPanel();
+        rightTopPanel.setOpaque(false);
+        rightTopPanel.setPreferredSize(new Dimension(130, 65)); // Balances the buttons on the left
+
+        topPanel.add(leftTopPanel, BorderLayout.WEST);
+        topPanel.add(infoPanel, BorderLayout.CENTER);
+        topPanel.add(rightTopPanel, BorderLayout.EAST);
+
+        // Letter grid, built by updateGridGameTiles() for the board's size
+        gridGameTilesPanel = new JPanel();
+        gridGameTilesPanel.setOpaque(false);
+        JPanel tilesWrapper = new JPanel(new GridBagLayout());
+        tilesWrapper.setOpaque(false);
+        tilesWrapper.add(gridGameTilesPanel);
+
+        // Found words down the right side
+        JPanel foundPanel = new JPanel(new BorderLayout(0, 5));
+        foundPanel.setOpaque(false);
+        foundPanel.setPreferredSize(new Dimension(180, 0));
+        gridGameFoundLabel = createCuteInfoLabel("Found: 0");
+        gridGameFoundList = new JTextArea();
+        gridGameFoundList.setEditable(false);
+        gridGameFoundList.setFocusable(false);
+        gridGameFoundList.setFont(GAME_FONT);
+        gridGameFoundList.setForeground(new Color(60, 40, 90));
+        gridGameFoundList.setOpaque(false);
+        JScrollPane foundScroll = new JScrollPane(gridGameFoundList);
+        foundScroll.setBorder(BorderFactory.createEmptyBorder());
+        foundScroll.setOpaque(false);
+        foundScroll.getViewport().setOpaque(false);
+        foundPanel.add(gridGameFoundLabel, BorderLayout.NORTH);
+        foundPanel.add(foundScroll, BorderLayout.CENTER);
+
+        // The traced word with clear and enter buttons
+        JPanel wordPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 5));
+        wordPanel.setOpaque(false);
+
+        JButton clearWordButton = createCuteButton("Clear", new Color(180, 60, 50));
+        clearWordButton.setPreferredSize(new Dimension(100, 40));
+        clearWordButton.addActionListener(e -> game.gridGame.clearPath());
+
+        gridGameWordLabel = createCuteInfoLabel(" ");
+        gridGameWordLabel.setPreferredSize(new Dimension(260, 40));
+        gridGameWordLabel.setHorizontalAlignment(SwingConstants.CENTER);
+
+        JButton enterButton = createCuteButton("Enter", new Color(46, 204, 113));
+        enterButton.setPreferredSize(new Dimension(100, 40));
+        enterButton.addActionListener(e -> game.gridGame.submitWord());
+
+        wordPanel.add(clearWordButton);
+        wordPanel.add(gridGameWordLabel);
+        wordPanel.add(enterButton);
+
+        gridGamePanel.add(topPanel, BorderLayout.NORTH);
+        gridGamePanel.add(tilesWrapper, BorderLayout.CENTER);
+        gridGamePanel.add(foundPanel, BorderLayout.EAST);
+        gridGamePanel.add(wordPanel, BorderLayout.SOUTH);
+
+        mainPanel.add(gridGamePanel, "gridGame");
+    }
+
+    // Lay out the letter tiles for the board, re-labelling them when the size is unchanged
+    public void updateGridGameTiles() {
+        GridBoard board = game.gridGame.board;
+        int otherSize = board.size == 4 ? 5 : 4;
+        gridGameSizeButton.setText("Try " + otherSize + "x" + otherSize);
+        if (gridGameTiles.length != board.cells.length) {
+            gridGameTilesPanel.removeAll();
+            gridGameTilesPanel.setLayout(new GridLayout(board.size, board.size, 4, 4));
+            gridGameTiles = new JLabel[board.cells.length];
+            for (int i = 0; i < board.cells.length; i++) {
+                int cell = i;
+                JLabel tile = createLetterTile(String.valueOf(board.cells[i]));
+                tile.addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mousePressed(MouseEvent e) {
+                        edtScheduler.input(e, () -> game.gridGame.selectCell(cell));
+                    }
+
+                    @Override
+                    public void mouseEntered(MouseEvent e) {
+                        hoveredTile = tile;
+                        tile.repaint();
+                    }
+
+                    @Override
+                    public void mouseExited(MouseEvent e) {
+                        if (hoveredTile == tile) {
+                            hoveredTile = null;
+                        }
+                        tile.repaint();
+                    }
+                });
+                tile.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+                gridGameTiles[i] = tile;
+                gridGameTilesPanel.add(tile);
+            }
+            gridGameTilesPanel.revalidate();
+        } else {
+            for (int i = 0; i < board.cells.length; i++) {
+                gridGameTiles[i].setText(String.valueOf(board.cells[i]));
+            }
+        }
+        gridGameTilesPanel.setVisible(true);
+        gridGameTilesPanel.repaint();
+    }
+
+    // While the board is still being generated: hide the old tiles and show a fresh score and clock
+    public void showGridGameLoading() {
+        gridGameTilesPanel.setVisible(false);
+        tracedTiles.clear();
+        gridGameWordLabel.setText("Shuffling the dice...");
+        gridGameScoreLabel.setText("Score: 0");
+        gridGameFoundLabel.setText("Found: 0");
+        gridGameFoundList.setText("");
+        updateGridGameTimer();
+    }
+
+    public void showGridGameError(String message) {
+        JOptionPane.showMessageDialog(game, "Couldn't deal a word grid.\n\n" + message,
+                "Word Grid", JOptionPane.ERROR_MESSAGE);
+        showScreen("start");
+    }
+
+    public void updateGridGamePath() {
+        tracedTiles.clear();
+        for (int cell : game.gridGame.path) {
+            tracedTiles.add(gridGameTiles[cell]);
+        }
+        String word = game.gridGame.currentWord();
+        gridGameWordLabel.setText(word.isEmpty() ? " " : word);
+        gridGameTilesPanel.repaint();
+    }
+
+    public void updateGridGameDisplay() {
+        updateGridGamePath();
+        GridGame gridGame = game.gridGame;
+        gridGameScoreLabel.setText("Score: " + gridGame.gameState.score);
+        gridGameFoundLabel.setText("Found: " + gridGame.foundWords.size() + " of " + gridGame.board.words.size());
+        gridGameFoundList.setText(String.join("\n", gridGame.foundWords));
+        updateGridGameTimer();
+    }
+
+    public void updateGridGameTimer() {
+        gridGameTimeLabel.setText("Time: " + game.gridGame.gameState.formatTime(game.gridGame.gameState.timeRemaining));
+    }
+
+    public void showGridGameResults() {
+        GridGame gridGame = game.gridGame;
+        updateGridGameDisplay();
+
+        // Show a few of the longest words that got away
+        java.util.List<String> missed = new ArrayList<>();
+        for (String word : gridGame.board.words) {
+            if (!gridGame.foundWords.contains(word)) {
+                missed.add(word);
+            }
+        }
+        missed.sort((a, b) -> b.length() - a.length());
+
+        String message = "Time's up!\n\n";
+        message += "Words Found: " + gridGame.foundWords.size() + " of " + gridGame.board.words.size() + "\n";
+        message += "Total Score: " + gridGame.gameState.score + "\n";
+        if (!missed.isEmpty()) {
+            message += "\nLongest words missed: " + String.join(", ", missed.subList(0, Math.min(5, missed.size())));
+        }
+
+        Object[] options = {"Play Again", "Main Menu"};
+        int choice = JOptionPane.showOptionDialog(game, message, "Word Grid Over!",
+                JOptionPane.YES_NO_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
+
+        if (choice == 0) {
+            game.startGridGame(gridGame.size);
+        } else {
+            showScreen("start");
+        }
     }
 
     public void createCategoryGameScreen() {
@@ -1421,7 +1790,7 @@ public class UIManager {
                 g2d.fillRect(0, 0, getWidth(), getHeight());
 
                 // Draw birds and bubbles
-                categoryAnimationManager.drawAnimations(g2d);
+                paintScenery(g2d, SceneryCompositor.SCENE_SKY);
 
                 // Remove this line:
                 // drawClouds(g2d);
@@ -1456,6 +1825,7 @@ public class UIManager {
                 if (game.categoryGame.gameTimer != null) {
                     game.categoryGame.gameTimer.cancel();
                 }
+                game.categoryGame.stopLightning();
                 // Return to start screen
                 showScreen("start");
             }
@@ -1471,8 +1841,12 @@ public class UIManager {
             if (game.categoryGame.gameTimer != null) {
                 game.categoryGame.gameTimer.cancel();
             }
-            // Restart Level 1
-            game.categoryGame.startGame();
+            // Restart Level 1, or the lightning run that was being played
+            if (game.categoryGame.lightning) {
+                game.categoryGame.startLightning();
+            } else {
+                game.categoryGame.startGame();
+            }
             showScreen("categoryGame");
         });
 
@@ -1513,7 +1887,7 @@ public class UIManager {
                 g2d.drawString(getText(), x, y);
             }
         };
-        categoryTitleLabel.setFont(new Font("Comic Sans MS", Font.BOLD, 32));
+        categoryTitleLabel.setFont(skinAtlas.comicFont(Font.BOLD, 32));
         categoryTitleLabel.setForeground(new Color(200, 160, 12));
 
         titlePanel.add(categoryTitleLabel, BorderLayout.CENTER);
@@ -1539,14 +1913,12 @@ public class UIManager {
         JPanel centerPanel = new JPanel(new BorderLayout(0, 20)); // Reduced spacing from 40 to 20
         centerPanel.setOpaque(false);
 
-        // Scrambled letters display with cartoon styling
-        scrambledLettersPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 15));
-        scrambledLettersPanel.setOpaque(false);
-
-        // User input display with cute boxes - FIXED: Smaller size and better spacing
-        userInputPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 8, 15)); // Reduced spacing
-        userInputPanel.setOpaque(false);
-        userInputPanel.setPreferredSize(new Dimension(600, 80)); // Reduced height from 120 to 80
+        // Scrambled letters and user input boxes, painted by a single component
+        if (categoryStage != null) {
+            frameClock.removeListener(categoryStage);
+        }
+        categoryStage = new CategoryStage(game, skinAtlas);
+        frameClock.addLogicListener(categoryStage); // Auto-submits a finished answer
 
         // Fun progress bar
         categoryProgressBar = new JProgressBar(0, 20) {
@@ -1582,8 +1954,7 @@ public class UIManager {
         progressPanel.setOpaque(false);
         progressPanel.add(categoryProgressBar);
 
-        centerPanel.add(scrambledLettersPanel, BorderLayout.NORTH);
-        centerPanel.add(userInputPanel, BorderLayout.CENTER);
+        centerPanel.add(categoryStage, BorderLayout.CENTER);
         centerPanel.add(progressPanel, BorderLayout.SOUTH);
 
         // Bottom panel with cute buttons (REMOVED SUBMIT BUTTON)
@@ -1612,22 +1983,13 @@ public class UIManager {
         JLabel label = new JLabel(text) {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g;
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
                 // Draw cute background bubble
-                g2d.setColor(new Color(200, 200, 200, 150));
-                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 20, 20);
-
-                // Draw border
-                g2d.setColor(new Color(80, 120, 180));
-                g2d.setStroke(new BasicStroke(2));
-                g2d.drawRoundRect(0, 0, getWidth()-1, getHeight()-1, 20, 20);
+                skinAtlas.infoLabelSkin().paint(g, 0, 0, getWidth(), getHeight());
 
                 super.paintComponent(g);
             }
         };
-        label.setFont(new Font("Comic Sans MS", Font.BOLD, 14));
+        label.setFont(skinAtlas.comicFont(Font.BOLD, 14));
         label.setForeground(new Color(25, 25, 80));
         label.setHorizontalAlignment(SwingConstants.CENTER);
         label.setBorder(BorderFactory.createEmptyBorder(8, 15, 8, 15));
@@ -1638,36 +2000,15 @@ public class UIManager {
         JButton button = new JButton(text) {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                // Shadow, body and highlight come from the nine-slice skin
+                skinAtlas.cuteButtonSkin(baseColor, buttonState(getModel()))
+                        .paint(g, 0, 0, getWidth(), getHeight());
 
-                Color buttonColor = baseColor;
-                if (getModel().isPressed()) {
-                    buttonColor = baseColor.darker().darker();
-                } else if (getModel().isRollover()) {
-                    buttonColor = baseColor.brighter();
-                } else {
-                    buttonColor = baseColor;
-                }
-
-                // Draw button shadow
-                g2d.setColor(new Color(0, 0, 0, 50));
-                g2d.fillRoundRect(3, 3, getWidth(), getHeight(), 25, 25);
-
-                // Draw main button
-                g2d.setColor(buttonColor);
-                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 25, 25);
-
-                // Draw highlight
-                g2d.setColor(new Color(255, 255, 255, 100));
-                g2d.fillRoundRect(5, 5, getWidth()-10, getHeight()/2, 20, 20);
-
-                g2d.dispose();
                 super.paintComponent(g);
             }
         };
 
-        button.setFont(new Font("Comic Sans MS", Font.BOLD, 14)); // Reduced font size from 16 to 14
+        button.setFont(skinAtlas.comicFont(Font.BOLD, 14)); // Reduced font size from 16 to 14
         button.setForeground(Color.WHITE);
         button.setFocusPainted(false);
         button.setBorderPainted(false);
@@ -1695,112 +2036,17 @@ public class UIManager {
             categoryScoreLabel.setText("Score: " + game.categoryGame.totalScore);
         }
 
-        // Update scrambled letters with cartoon styling
-        scrambledLettersPanel.removeAll();
-        char[] scrambledChars = game.categoryGame.scrambledWord.toCharArray();
-        for (int index = 0; index < scrambledChars.length; index++) {
-            final char c = scrambledChars[index]; // Make it effectively final
-            JLabel letterTile = createCartoonLetterTile(String.valueOf(c));
-            letterTile.addMouseListener(new MouseAdapter() {
-                @Override
-                public void mouseClicked(MouseEvent e) {
-                    game.categoryGame.addLetter(c);
-                }
-            });
-            scrambledLettersPanel.add(letterTile);
-        }
-
-        updateCategoryInput();
-        scrambledLettersPanel.revalidate();
-        scrambledLettersPanel.repaint();
+        // Deal the new word into the stage
+        categoryStage.wordChanged();
     }
 
     public void updateCategoryInput() {
-        userInputPanel.removeAll();
-
-        String userInput = game.categoryGame.userInput;
-        String answer = game.categoryGame.currentAnswer;
-
-        for (int index = 0; index < answer.length(); index++) {
-            final int i = index; // Make it effectively final
-            JLabel inputTile = new JLabel() {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    Graphics2D g2d = (Graphics2D) g.create();
-                    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                    // Draw shadow
-                    g2d.setColor(new Color(0, 0, 0, 80));
-                    g2d.fillRoundRect(2, 2, getWidth(), getHeight(), 15, 15);
-
-                    // Draw main tile
-                    if (i < userInput.length()) {
-                        // Filled tile - green gradient
-                        GradientPaint fillGradient = new GradientPaint(
-                                0, 0, new Color(120, 200, 120),
-                                0, getHeight(), new Color(30, 120, 30));
-                        g2d.setPaint(fillGradient);
-                    } else {
-                        // Empty tile - gray gradient
-                        GradientPaint emptyGradient = new GradientPaint(
-                                0, 0, new Color(180, 180, 180),
-                                0, getHeight(), new Color(120, 120, 120));
-                        g2d.setPaint(emptyGradient);
-                    }
-                    g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
-
-                    // Draw border
-                    g2d.setColor(new Color(80, 80, 80));
-                    g2d.setStroke(new BasicStroke(2));
-                    g2d.drawRoundRect(0, 0, getWidth()-1, getHeight()-1, 15, 15);
-
-                    g2d.dispose();
-                    super.paintComponent(g);
-                }
-            };
-
-            inputTile.setPreferredSize(new Dimension(50, 50)); // Reduced from 100 to 50
-            inputTile.setMinimumSize(new Dimension(50, 50));
-            inputTile.setMaximumSize(new Dimension(50, 50));
-            inputTile.setHorizontalAlignment(SwingConstants.CENTER);
-            inputTile.setVerticalAlignment(SwingConstants.CENTER);
-            inputTile.setFont(new Font("Comic Sans MS", Font.BOLD, 20)); // Reduced font size from 32 to 20
-            inputTile.setOpaque(false);
-
-            if (i < userInput.length()) {
-                inputTile.setText(String.valueOf(userInput.charAt(i)));
-                inputTile.setForeground(Color.WHITE);
-            } else {
-                inputTile.setText("");
-                inputTile.setForeground(new Color(100, 100, 100));
-            }
-
-            userInputPanel.add(inputTile);
-        }
-
-        userInputPanel.revalidate();
-        userInputPanel.repaint();
-
-        // Auto-submit if the input matches the answer length and is correct
-        if (userInput.length() == answer.length()) {
-            // Check if the input matches the answer
-            if (userInput.equalsIgnoreCase(answer)) {
-                // Auto-submit after a short delay to show the completed word
-                Timer autoSubmitTimer = new Timer();
-                autoSubmitTimer.schedule(new TimerTask() {
-                    @Override
-                    public void run() {
-                        SwingUtilities.invokeLater(() -> {
-                            game.categoryGame.submitAnswer();
-                        });
-                    }
-                }, 500); // 500ms delay to show the completed word
-            }
-        }
+        categoryStage.inputChanged();
     }
 
     public void updateCategoryTimer() {
         categoryTimerLabel.setText("Time: " + game.categoryGame.timeRemaining);
+        categoryProgressBar.setMaximum(game.categoryGame.timeLimit());
         categoryProgressBar.setValue(game.categoryGame.timeRemaining);
 
         // Change color based on time remaining
@@ -1816,57 +2062,21 @@ public class UIManager {
         }
     }
 
-    public JLabel createCartoonLetterTile(String letter) {
-        JLabel tile = new JLabel(letter) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Draw shadow
-                g2d.setColor(new Color(0, 0, 0, 100));
-                g2d.fillRoundRect(4, 4, getWidth(), getHeight(), 20, 20);
-
-                // Draw main tile with gradient
-                GradientPaint tileGradient = new GradientPaint(
-                        0, 0, new Color(200, 180, 0),
-                        0, getHeight(), new Color(180, 140, 0));
-                g2d.setPaint(tileGradient);
-                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 20, 20);
-
-                // Draw highlight
-                g2d.setColor(new Color(255, 255, 255, 150));
-                g2d.fillRoundRect(5, 5, getWidth()-10, getHeight()/3, 15, 15);
-
-                // Draw border
-                g2d.setColor(new Color(180, 120, 0));
-                g2d.setStroke(new BasicStroke(3));
-                g2d.drawRoundRect(0, 0, getWidth()-1, getHeight()-1, 20, 20);
-
-                g2d.dispose();
-                super.paintComponent(g);
-            }
-        };
-
-        tile.setPreferredSize(new Dimension(90, 90));
-        tile.setHorizontalAlignment(SwingConstants.CENTER);
-        tile.setVerticalAlignment(SwingConstants.CENTER);
-        tile.setFont(new Font("Comic Sans MS", Font.BOLD, 36));
-        tile.setForeground(new Color(100, 60, 20)); // Darker brown text
-        tile.setCursor(new Cursor(Cursor.HAND_CURSOR));
-
-        return tile;
-    }
-
     public void showCategorySuccess(int score) {
         categoryAnimationManager.triggerConfetti();
 
+        if (game.categoryGame.lightning) {
+            // No pause between lightning words
+            game.categoryGame.nextWord();
+            return;
+        }
+
         // Move to next word directly
         Timer delayTimer = new Timer();
         delayTimer.schedule(new TimerTask() {
             @Override
             public void run() {
-                SwingUtilities.invokeLater(() -> {
+                edtScheduler.logic(() -> {
                     game.categoryGame.nextWord();
                 });
             }
@@ -1884,21 +2094,11 @@ public class UIManager {
         };
 
         String message = encouragingMessages[(int)(Math.random() * encouragingMessages.length)];
-        message += "\n\nThe correct answer was: " + game.categoryGame.currentAnswer;
+        message += "\nThe correct answer was: " + game.categoryGame.currentAnswer;
         message += "\nRemaining lives: " + remainingChances;
 
-        JOptionPane.showMessageDialog(game, message, "Try Again!", JOptionPane.WARNING_MESSAGE);
-
-        // Continue with next word
-        Timer delayTimer = new Timer();
-        delayTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                SwingUtilities.invokeLater(() -> {
-                    game.categoryGame.nextWord();
-                });
-            }
-        }, 2000);
+        // Continue with next word once the banner has been shown
+        notificationLayer.showBanner("Try Again!", message, 2000, () -> game.categoryGame.nextWord());
     }
 
     public void showCategoryGameOver() {
@@ -1915,8 +2115,8 @@ public class UIManager {
                 JOptionPane.YES_NO_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
 
         if (choice == 0) {
-            // Play again - restart level 1
-            game.categoryGame.startGame();
+            // Play again - restart level 1, or the same daily run
+            replayCategories();
             showScreen("categoryGame");
         } else {
             // Return to start screen
@@ -1924,6 +2124,24 @@ public class UIManager {
         }
     }
 
+    public void showLightningResults() {
+        String message = "Time's up!\n\n";
+        message += "Words Solved: " + game.categoryGame.wordsGuessedCorrectly + "\n";
+        message += "Total Score: " + game.categoryGame.totalScore + "\n\n";
+        message += "Can you beat it?";
+
+        Object[] options = {"Play Again", "Main Menu"};
+        int choice = JOptionPane.showOptionDialog(game, message, "Lightning Round Over!",
+                JOptionPane.YES_NO_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
+
+        if (choice == 0) {
+            game.categoryGame.startLightning();
+            showScreen("categoryGame");
+        } else {
+            showScreen("start");
+        }
+    }
+
     public void showCategoryGameWon() {
         categoryAnimationManager.triggerConfetti();
 
@@ -1934,13 +2152,13 @@ public class UIManager {
         message += "What would you like to do next?";
 
         // Create custom dialog with multiple options
-        Object[] options = {"Play Level 1 Again", "Go to Level 2", "Main Menu"};
+        Object[] options = {game.categoryGame.daily != null ? "Play Again" : "Play Level 1 Again", "Go to Level 2", "Main Menu"};
         int choice = JOptionPane.showOptionDialog(game, message, "Level 1 Complete!",
                 JOptionPane.YES_NO_CANCEL_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[1]);
 
         if (choice == 0) {
             // Play Level 1 again
-            game.categoryGame.startGame();
+            replayCategories();
             showScreen("categoryGame");
         } else if (choice == 1) {
             // Start Level 2 (main word scramble game)
@@ -1950,4 +2168,13 @@ public class UIManager {
             showScreen("start");
         }
     }
+
+    // A daily run replays the day's puzzle rather than dropping into a normal game
+    private void replayCategories() {
+        if (game.categoryGame.daily != null) {
+            game.categoryGame.startDaily(game.categoryGame.daily);
+        } else {
+            game.categoryGame.startGame();
+        }
+    }
 }
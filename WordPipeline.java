@@ -0,0 +1,167 @@
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class WordPipeline implements Runnable {
+    // Keeps a small queue of ready-to-show words topped up for lightning mode
+    public static final int QUEUE_SIZE = 8;
+    public static final long STARVED_WAIT_MS = 10; // next() runs on the EDT - after this it picks a word itself
+
+    public Map<String, List<String>> categories;
+    public SkinAtlas skinAtlas;
+    public List<String> categoryNames;
+    public AliasTable categorySampler;
+    public BlockingQueue<PreparedWord> readyWords = new ArrayBlockingQueue<>(QUEUE_SIZE);
+
+    private volatile boolean running = false;
+    private Thread producerThread;
+
+    // Words already dealt in this run, only touched in choose()
+    private Set<String> usedWords = new HashSet<>();
+
+    // Word-to-word latency, from an accepted answer to the next word being dealt
+    public boolean reportLatency = Boolean.getBoolean("wordgame.frameStats");
+    private List<Long> transitionNanos = new ArrayList<>();
+    private long acceptedAt = 0;
+    private int starved = 0;
+
+    public WordPipeline(Map<String, List<String>> categories, SkinAtlas skinAtlas) {
+        this.categories = categories;
+        this.skinAtlas = skinAtlas;
+
+        // Categories are weighted by size, so each word comes up about equally often
+        categoryNames = new ArrayList<>(categories.keySet());
+        double[] weights = new double[categoryNames.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = categories.get(categoryNames.get(i)).size();
+        }
+        categorySampler = new AliasTable(weights);
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        producerThread = new Thread(this, "word-producer");
+        producerThread.setDaemon(true);
+        producerThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (producerThread != null) {
+            producerThread.interrupt();
+            producerThread = null;
+        }
+        readyWords.clear();
+        report();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                readyWords.put(prepare());
+            }
+        } catch (InterruptedException e) {
+            // Stopped
+        }
+    }
+
+    // Next word to show. If the producer has fallen behind (a new skin being rendered, say) this waits
+    // briefly, then picks a word here without pre-rendering its tiles - the EDT is never held longer.
+    public PreparedWord next() {
+        PreparedWord word = readyWords.poll();
+        if (word == null) {
+            starved++;
+            try {
+                word = readyWords.poll(STARVED_WAIT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (word == null) {
+                word = choose();
+            }
+        }
+        return word;
+    }
+
+    public void answerAccepted() {
+        acceptedAt = System.nanoTime();
+    }
+
+    public void wordShown() {
+        if (acceptedAt != 0) {
+            transitionNanos.add(System.nanoTime() - acceptedAt);
+            acceptedAt = 0;
+        }
+    }
+
+    private PreparedWord prepare() {
+        PreparedWord word = choose();
+
+        // Render the word's tiles now so dealing it is only a repaint
+        for (char c : word.scrambled.toCharArray()) {
+            skinAtlas.tile(SkinAtlas.TileStyle.CARTOON_TILE, c, CategoryStage.TILE_SIZE);
+            skinAtlas.tile(SkinAtlas.TileStyle.ANSWER_FILLED, c);
+        }
+        return word;
+    }
+
+    // Synchronized because the EDT picks a word itself when the queue runs dry
+    private synchronized PreparedWord choose() {
+        String category = categoryNames.get(categorySampler.sample());
+
+        List<String> availableWords = new ArrayList<>();
+        for (String word : categories.get(category)) {
+            if (!usedWords.contains(word)) {
+                availableWords.add(word);
+            }
+        }
+
+        // Lightning runs against the clock, so start over once a category is used up
+        if (availableWords.isEmpty()) {
+            usedWords.removeAll(categories.get(category));
+            availableWords.addAll(categories.get(category));
+        }
+
+        String answer = availableWords.get((int)(Math.random() * availableWords.size()));
+        usedWords.add(answer);
+
+        return new PreparedWord(category, answer, scramble(answer));
+    }
+
+    private String scramble(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = chars.length - 1; i > 0; i--) {
+            int j = (int)(Math.random() * (i + 1));
+            char temp = chars[i];
+            chars[i] = chars[j];
+            chars[j] = temp;
+        }
+
+        // Don't deal a word that is already solved
+        String scrambled = new String(chars);
+        if (scrambled.equals(word) && word.length() > 1) {
+            return word.substring(1) + word.charAt(0);
+        }
+        return scrambled;
+    }
+
+    private void report() {
+        if (!reportLatency || transitionNanos.isEmpty()) {
+            return;
+        }
+        List<Long> sorted = new ArrayList<>(transitionNanos);
+        Collections.sort(sorted);
+        int count = sorted.size();
+        System.out.printf("lightning: %d words, word-to-word p50 %.2f ms, p99 %.2f ms, worst %.2f ms, queue ran dry %d times%n",
+                count, sorted.get(count / 2) / 1e6, sorted.get(Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)) / 1e6,
+                sorted.get(count - 1) / 1e6, starved);
+        transitionNanos.clear();
+        starved = 0;
+    }
+}
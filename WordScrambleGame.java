@@ -5,10 +5,14 @@ import java.awt.event.*;
 import java.awt.geom.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.time.LocalDate;
 import java.util.*;
 import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class WordScrambleGame extends JFrame {
     // Constants
@@ -34,6 +38,21 @@ public class WordScrambleGame extends JFrame {
     public FileManager fileManager;
     public AnimationManager animationManager;
     public CategoryGame categoryGame;
+    public GridGame gridGame;
+
+    // Word sets and categories load in the background and are joined when a mode starts
+    public CompletableFuture<Void> wordSetsLoading;
+    public CompletableFuture<Void> categoriesLoading;
+
+    // The next round's puzzle, prepared in the background while the current round is played
+    public ExecutorService roundPrefetcher;
+    public CompletableFuture<PreparedRound> nextRound;
+    public RoundStream roundStream; // Endless mode's upcoming rounds, on the same thread
+    public DailyCalendar dailyCalendar = new DailyCalendar(new File(DailyCalendar.cacheFile()));
+
+    // Time-to-first-frame trace, enabled with -Dwordgame.traceStartup=true
+    public static long launchNanos;
+    public boolean firstFrameReported = false;
 
     public WordScrambleGame() {
         setTitle(GAME_TITLE);
@@ -49,14 +68,40 @@ public class WordScrambleGame extends JFrame {
         gameLogic = new GameLogic(fileManager, animationManager);
         uiManager = new UIManager(animationManager, this);
 
+        categoryGame = new CategoryGame(this);
+        gridGame = new GridGame(this);
+
+        // Load word sets and categories concurrently while the start screen comes up
+        ExecutorService contentLoader = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "content-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        wordSetsLoading = CompletableFuture.runAsync(gameLogic::loadWordSets, contentLoader);
+        categoriesLoading = CompletableFuture.runAsync(categoryGame::loadCategoriesFromFile, contentLoader);
+        contentLoader.shutdown();
+
+        roundPrefetcher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "round-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        roundStream = new RoundStream(gameLogic, roundPrefetcher, this::warmRoundTiles);
+        prefetchNextRound();
+
+        // Work out the coming days' puzzles once the content is in, behind the first round
+        CompletableFuture.allOf(wordSetsLoading, categoriesLoading).thenRunAsync(() ->
+                dailyCalendar.precompute(gameLogic.allWordSets, categoryGame.categories, LocalDate.now()), roundPrefetcher);
+
         // Initialize UI
         uiManager.initializeUI();
         setContentPane(uiManager.getMainPanel());
+        setGlassPane(uiManager.notificationLayer);
+        uiManager.notificationLayer.setVisible(true);
 
-        // Load word sets
-        gameLogic.loadWordSets();
-
-        categoryGame = new CategoryGame(this);
+        // Let the governor throttle animations when the window is minimized or unfocused
+        addWindowListener(uiManager.frameGovernor);
+        addWindowFocusListener(uiManager.frameGovernor);
 
         // Show start screen
         showStartScreen();
@@ -66,17 +111,91 @@ public class WordScrambleGame extends JFrame {
         uiManager.showScreen("start");
     }
 
+    public void firstFramePainted() {
+        if (!firstFrameReported) {
+            firstFrameReported = true;
+            if (Boolean.getBoolean("wordgame.traceStartup")) {
+                System.out.printf("First frame after %.1f ms%n", (System.nanoTime() - launchNanos) / 1e6);
+            }
+        }
+    }
+
     public void startCategoryGame() {
+        categoriesLoading.join();
+        uiManager.ensureScreen("categoryGame");
         categoryGame.startGame();
         uiManager.showScreen("categoryGame");
     }
 
+    public void startGridGame(int size) {
+        uiManager.ensureScreen("gridGame");
+        gridGame.startGame(size);
+        if (!"failed".equals(gridGame.gameState.currentGameState)) {
+            uiManager.showScreen("gridGame");
+        }
+    }
+
+    public void startLightningGame() {
+        categoriesLoading.join();
+        uiManager.ensureScreen("categoryGame");
+        categoryGame.startLightning();
+        uiManager.showScreen("categoryGame");
+    }
+
     public void startMainGame() {
+        gameLogic.crosswordMode = false;
+        gameState.endless = false;
+        gameState.daily = null;
         startGame();
     }
 
+    // The word scramble with the round's words interlocked in a crossword instead of rows of blocks
+    public void startCrosswordGame() {
+        gameLogic.crosswordMode = true;
+        gameState.endless = false;
+        gameState.daily = null;
+        startGame();
+    }
+
+    // The word scramble without a last round: boards grow and the clock shortens until time runs out
+    public void startEndlessGame() {
+        gameLogic.crosswordMode = false;
+        gameState.endless = true;
+        gameState.daily = null;
+        startGame();
+    }
+
+    // Today's scramble round, then today's category run - the same for every player
+    public void startDailyGame() {
+        wordSetsLoading.join();
+        categoriesLoading.join();
+        DailyPuzzle puzzle = dailyCalendar.puzzleFor(LocalDate.now());
+        if (puzzle == null) {
+            // The background pass hasn't seen the content yet, do it now
+            dailyCalendar.precompute(gameLogic.allWordSets, categoryGame.categories, LocalDate.now());
+            puzzle = dailyCalendar.puzzleFor(LocalDate.now());
+        }
+        gameLogic.crosswordMode = false;
+        gameState.endless = false;
+        gameState.daily = puzzle;
+        startGame();
+    }
+
+    public void startDailyCategories() {
+        uiManager.ensureScreen("categoryGame");
+        categoryGame.startDaily(gameState.daily);
+        uiManager.showScreen("categoryGame");
+    }
+
     public void startGame() {
         // This is now Level 2 - the original word scramble game
+        // Make sure the word sets and the game screen are ready
+        wordSetsLoading.join();
+        uiManager.ensureScreen("game");
+        if (gameState.endless) {
+            roundStream.restart();
+        }
+
         // Initialize game state
         gameState.resetForNewGame();
 
@@ -96,34 +215,46 @@ public class WordScrambleGame extends JFrame {
     }
 
     public void startGameTimer() {
-        if (gameState.gameTimer != null) {
-            gameState.gameTimer.cancel();
-        }
-
-        gameState.gameTimer = new Timer();
-        gameState.gameTimer.scheduleAtFixedRate(new TimerTask() {
+        stopGameTimer();
+        gameState.roundTick = new TimerTask() {
             @Override
             public void run() {
                 if (!gameState.isPaused) {
                     gameState.timeRemaining--;
 
-                    // Update health bar based on 3 minutes (180 seconds) - FIXED
-                    // Health bar has 4 sections, each representing 45 seconds
-                    int sectionsRemaining = (int) Math.ceil(gameState.timeRemaining / 45.0);
+                    // Health bar has 4 sections, each a quarter of the round's time limit
+                    int sectionsRemaining = (int) Math.ceil(gameState.timeRemaining / (gameState.timeLimit / 4.0));
                     gameState.healthPercentage = Math.max(0, Math.min(100, sectionsRemaining * 25));
 
-                    SwingUtilities.invokeLater(() -> {
+                    uiManager.edtScheduler.logic(() -> {
                         updateTimeLabel();
 
                         // Check if time is up
                         if (gameState.timeRemaining <= 0) {
-                            gameState.gameTimer.cancel();
+                            stopGameTimer();
                             gameOver();
                         }
                     });
                 }
             }
-        }, 1000, 1000);
+        };
+        roundClock().scheduleAtFixedRate(gameState.roundTick, 1000, 1000);
+    }
+
+    // The clock thread lives as long as the game and is shared by the timed modes, rounds only swap the task it runs
+    public Timer roundClock() {
+        if (gameState.gameTimer == null) {
+            gameState.gameTimer = new Timer("round-clock", true);
+        }
+        return gameState.gameTimer;
+    }
+
+    public void stopGameTimer() {
+        if (gameState.roundTick != null) {
+            gameState.roundTick.cancel();
+            gameState.roundTick = null;
+            gameState.gameTimer.purge(); // Drop the cancelled task so the queue doesn't grow round after round
+        }
     }
 
     public void updateTimeLabel() {
@@ -158,22 +289,33 @@ public class WordScrambleGame extends JFrame {
     }
 
     public void showWordsFound() {
-        // FIXED: Recreate the words found screen with current data
-        uiManager.createWordsFoundScreen();
-        uiManager.showScreen("wordsFound");
+        // Refresh the words found screen with current data
+        uiManager.showWordsFoundScreen();
     }
 
     public void showHelp() {
+        // Written for the board being played, which can be 5 to 8 letters with blanks
+        BoardShape shape = gameState.boardShape;
+        int blanks = 0;
+        for (char c : gameState.scrambledLetters.toCharArray()) {
+            if (c == BoardGenerator.BLANK) {
+                blanks++;
+            }
+        }
+
         JOptionPane.showMessageDialog(this,
                 "Word Scramble Game Help:\n\n" +
-                        "1. Use the 5 scrambled letters to form words.\n" +
+                        "1. Use the " + shape.baseLength + " scrambled letters to form words.\n" +
+                        (blanks > 0 ? "   A ? tile can stand for any letter.\n" : "") +
                         "2. Click on letter tiles to select them.\n" +
                         "3. Selected letters appear in the word input box.\n" +
                         "4. Words are automatically detected and placed when valid.\n" +
-                        "5. Find 3 three-letter words, 2 four-letter words, and 1 five-letter word.\n" +
+                        "5. Find " + shape.describe() + ".\n" +
                         "6. Use the shuffle button to rearrange the same letters.\n" +
                         "7. Use the hint button to reveal letters one by one.\n" +
-                        "8. Complete all three rounds to win!",
+                        (gameState.endless ? "8. Keep going! Boards grow and the clock gets shorter as you go."
+                                : gameState.daily != null ? "8. Solve today's board, then today's category words."
+                                : "8. Complete all " + GameState.MAX_ROUNDS + " rounds to win!"),
                 "Help", JOptionPane.INFORMATION_MESSAGE);
     }
 
@@ -190,7 +332,13 @@ public class WordScrambleGame extends JFrame {
     }
 
     public void generateWordSet() {
-        gameLogic.generateWordSet(gameState);
+        PreparedRound round;
+        if (gameState.daily != null) {
+            round = gameLogic.prepareRound(gameState.daily);
+        } else {
+            round = gameState.endless ? roundStream.take() : takePreparedRound();
+        }
+        gameLogic.applyRound(gameState, round);
 
         // Update UI
         uiManager.updateLetterTiles();
@@ -198,6 +346,37 @@ public class WordScrambleGame extends JFrame {
         clearCurrentWord();
     }
 
+    public void prefetchNextRound() {
+        nextRound = wordSetsLoading.thenApplyAsync(ignored -> {
+            PreparedRound round = gameLogic.prepareRound();
+            warmRoundTiles(round);
+            return round;
+        }, roundPrefetcher);
+    }
+
+    // Render any tile the round can show now, so the first paint is only blits
+    public void warmRoundTiles(PreparedRound round) {
+        int gridTileSize = round.layout != null
+                ? UIManager.crosswordTileSize(round.layout) : UIManager.gridTileSize(round.shape);
+        uiManager.skinAtlas.tile(SkinAtlas.TileStyle.GRID_EMPTY, ' ', gridTileSize);
+        for (char c : round.scrambledLetters.toCharArray()) {
+            uiManager.skinAtlas.tile(SkinAtlas.TileStyle.LETTER_TILE, c);
+            uiManager.skinAtlas.tile(SkinAtlas.TileStyle.GRID_FOUND, c, gridTileSize);
+            uiManager.skinAtlas.tile(SkinAtlas.TileStyle.GRID_HINT, c, gridTileSize);
+        }
+    }
+
+    // Swap in the prefetched round and start preparing the one after it
+    private PreparedRound takePreparedRound() {
+        PreparedRound round = nextRound.join();
+        if ((round.layout != null) != gameLogic.crosswordMode) {
+            // Prepared before the mode changed, deal a fresh one - a layout takes at most a frame budget
+            round = gameLogic.prepareRound();
+        }
+        prefetchNextRound();
+        return round;
+    }
+
     public void clearCurrentWord() {
         gameState.currentInputWord = "";
         uiManager.updateWordInputDisplay();
@@ -209,10 +388,10 @@ public class WordScrambleGame extends JFrame {
 
         // Reset game state (score, timer, hints) but keep the same round
         gameState.score = 0;
-        gameState.timeRemaining = 180;
+        gameState.timeRemaining = gameState.timeLimit;
         gameState.hintsUsed = 0;
         gameState.healthPercentage = 100;
-        gameState.wordsFound = new boolean[6]; // Reset found words
+        gameState.wordsFound = new boolean[gameState.currentWordSet.length]; // Reset found words
         gameState.currentGameState = "playing";
 
         // Update UI
@@ -229,8 +408,7 @@ public class WordScrambleGame extends JFrame {
 
     public void checkWordAutomatically() {
         boolean wordFound = gameLogic.checkWordAutomatically(gameState,
-                uiManager.threeLetterLabels, uiManager.fourLetterLabels,
-                uiManager.fiveLetterLabels, uiManager.scoreLabel, this);
+                uiManager.wordCells, uiManager.scoreLabel, this);
 
         // FIXED: Only clear if word was found, and check for round completion
         if (wordFound) {
@@ -254,23 +432,26 @@ public class WordScrambleGame extends JFrame {
 
     public void roundComplete() {
         // Stop the timer
-        gameState.gameTimer.cancel();
+        stopGameTimer();
 
         // Set the game state to round complete
         gameState.currentGameState = "roundComplete";
 
-        // FIXED: Recreate the round complete screen with current data
-        uiManager.createRoundCompleteScreen();
-
-        // Show round complete screen
-        uiManager.showScreen("roundComplete");
+        // Show round complete screen with current data
+        uiManager.showRoundCompleteScreen();
     }
 
     public void startNextRound() {
+        // The daily puzzle has a single scramble round, its category run comes next
+        if (gameState.daily != null) {
+            startDailyCategories();
+            return;
+        }
+
         // Increment round
         gameState.currentRound++;
 
-        if (gameState.currentRound <= GameState.MAX_ROUNDS) {
+        if (gameState.endless || gameState.currentRound <= GameState.MAX_ROUNDS) {
             // Reset for new round
             gameState.resetForNewRound();
 
@@ -299,25 +480,18 @@ public class WordScrambleGame extends JFrame {
 
     public void gameOver() {
         // Stop the timer
-        if (gameState.gameTimer != null) {
-            gameState.gameTimer.cancel();
-        }
+        stopGameTimer();
 
         // Set the game state to game over
         gameState.currentGameState = "gameOver";
 
-        // FIXED: Recreate the game over screen with current data
-        uiManager.createGameOverScreen();
-
-        // Show game over screen
-        uiManager.showScreen("gameOver");
+        // Show game over screen with current data
+        uiManager.showGameOverScreen();
     }
 
     public void restartGame() {
         // Stop any existing timer first
-        if (gameState.gameTimer != null) {
-            gameState.gameTimer.cancel();
-        }
+        stopGameTimer();
 
         // Reset game state
         gameState.resetForNewGame();
@@ -332,22 +506,10 @@ public class WordScrambleGame extends JFrame {
             return; // No popup, just return silently
         }
 
-        // Find a word that hasn't been found yet
-        List<Integer> remainingWordIndices = new ArrayList<>();
-        for (int i = 0; i < gameState.wordsFound.length; i++) {
-            if (!gameState.wordsFound[i]) {
-                remainingWordIndices.add(i);
-            }
-        }
-
-        if (!remainingWordIndices.isEmpty()) {
-            // Get a random word from the remaining words
-            int randomIndex = remainingWordIndices.get((int)(Math.random() * remainingWordIndices.size()));
-            String hintWord = gameState.currentWordSet[randomIndex];
-
-            // Reveal one letter in the appropriate grid
-            gameLogic.revealLetterInGrid(hintWord, randomIndex, uiManager.threeLetterLabels,
-                    uiManager.fourLetterLabels, uiManager.fiveLetterLabels);
+        // Reveal the most useful hidden letter
+        int hintIndex = gameLogic.revealHint(gameState, uiManager.wordCells);
+        if (hintIndex >= 0) {
+            String hintWord = gameState.currentWordSet[hintIndex];
 
             // Deduct 10 points and increment hint counter
             gameState.score -= 10;
@@ -364,6 +526,7 @@ public class WordScrambleGame extends JFrame {
     }
 
     public static void main(String[] args) {
+        launchNanos = System.nanoTime();
         SwingUtilities.invokeLater(() -> {
             WordScrambleGame game = new WordScrambleGame();
             game.setVisible(true);
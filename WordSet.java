@@ -1,6 +1,6 @@
 public class WordSet {
     public String letters;
-    public String[] words = new String[6]; // 3 three-letter, 2 four-letter, 1 five-letter
+    public String[] words = new String[6]; // Shortest first, e.g. 3 three-letter, 2 four-letter, 1 five-letter
 
     public WordSet(String letters, String[] words) {
         this.letters = letters;